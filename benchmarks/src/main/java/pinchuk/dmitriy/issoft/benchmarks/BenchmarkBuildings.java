@@ -0,0 +1,73 @@
+package pinchuk.dmitriy.issoft.benchmarks;
+
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.Controller;
+import pinchuk.dmitriy.issoft.domain.buildings.DirectionOfTravel;
+import pinchuk.dmitriy.issoft.domain.buildings.Elevator;
+import pinchuk.dmitriy.issoft.domain.buildings.Trip;
+import pinchuk.dmitriy.issoft.domain.simulation.SimulationClock;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class BenchmarkBuildings {
+
+    public static final long SEED = 42;
+
+    private static final SimulationClock IMMEDIATE_CLOCK = new SimulationClock() {
+
+        @Override
+        public long currentTimeMillis() {
+            return System.currentTimeMillis();
+        }
+
+        @Override
+        public void sleep(TimeUnit unit, long duration) {
+        }
+    };
+
+    private BenchmarkBuildings() {
+    }
+
+    public static Building of(int floors, int elevators) {
+        return Building.of(1, floors, elevators, "benchmark")
+                .setController(new Controller())
+                .setClock(IMMEDIATE_CLOCK);
+    }
+
+    public static Building scattered(int floors, int elevators) {
+        Building building = of(floors, elevators);
+        Random random = new Random(SEED);
+
+        for (Elevator elevator : building.getElevators()) {
+            elevator.setCurrentFloorNumber(new AtomicInteger(random.nextInt(floors)));
+        }
+
+        return building;
+    }
+
+    public static Trip randomHallCall(Random random, int floors) {
+        int floor = random.nextInt(floors);
+
+        if (floor == 0) {
+            return Trip.of(floor, DirectionOfTravel.UP);
+        }
+        if (floor == floors - 1) {
+            return Trip.of(floor, DirectionOfTravel.DOWN);
+        }
+
+        return Trip.of(floor, random.nextBoolean() ? DirectionOfTravel.UP : DirectionOfTravel.DOWN);
+    }
+
+    public static void moveRandomElevator(Building building, Random random) {
+        Elevator elevator = building.getElevators().get(random.nextInt(building.getNumberOfElevators()));
+        int floor = elevator.getCurrentFloorNumber();
+
+        if (floor < building.getNumberOfFloors() - 1 && (floor == 0 || random.nextBoolean())) {
+            elevator.goUp();
+        } else if (floor > 0) {
+            elevator.goDown();
+        }
+    }
+}
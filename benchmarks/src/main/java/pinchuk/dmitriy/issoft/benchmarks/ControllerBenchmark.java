@@ -0,0 +1,70 @@
+package pinchuk.dmitriy.issoft.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.Controller;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class ControllerBenchmark {
+
+    @Param({"20", "100"})
+    public int floors;
+
+    @Param({"4", "16"})
+    public int elevators;
+
+    private Building building;
+    private Controller controller;
+
+    @State(Scope.Thread)
+    public static class Calls {
+
+        private final Random random = new Random(BenchmarkBuildings.SEED);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        building = BenchmarkBuildings.scattered(floors, elevators);
+        controller = building.getController();
+    }
+
+    @Benchmark
+    public void sendTrip(Calls calls) {
+        controller.addTrip(BenchmarkBuildings.randomHallCall(calls.random, floors));
+        controller.sendTrip();
+    }
+
+    @Benchmark
+    public boolean canCallElevator(Calls calls) {
+        return controller.canCallElevator(BenchmarkBuildings.randomHallCall(calls.random, floors));
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void contendedSendTrip(Calls calls) {
+        sendTrip(calls);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(2)
+    public boolean contendedCanCallElevator(Calls calls) {
+        return canCallElevator(calls);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void contendedElevatorMovement(Calls calls) {
+        BenchmarkBuildings.moveRandomElevator(building, calls.random);
+    }
+}
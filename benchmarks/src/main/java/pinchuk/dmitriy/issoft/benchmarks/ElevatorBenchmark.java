@@ -0,0 +1,72 @@
+package pinchuk.dmitriy.issoft.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.Elevator;
+import pinchuk.dmitriy.issoft.domain.buildings.Floor;
+import pinchuk.dmitriy.issoft.domain.people.Person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class ElevatorBenchmark {
+
+    @Param({"20", "100"})
+    public int floors;
+
+    @Param({"4", "16"})
+    public int elevators;
+
+    @Param({"1", "10", "50"})
+    public int intensity;
+
+    private Elevator elevator;
+    private Floor floor;
+    private Person[] people;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Building building = BenchmarkBuildings.scattered(floors, elevators);
+        Random random = new Random(BenchmarkBuildings.SEED);
+
+        floor = building.getFloorWithIndex(0);
+        elevator = building.getElevators().get(0);
+        elevator.setLiftingCapacity(intensity * Person.MAX_WEIGHT);
+        people = new Person[intensity];
+
+        for (int i = 0; i < intensity; i++) {
+            people[i] = Person.of(Person.MIN_WEIGHT + random.nextInt(Person.MAX_WEIGHT - Person.MIN_WEIGHT),
+                    floor, 1 + random.nextInt(floors - 1));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void fillFloor() {
+        List<Person> passengers = new ArrayList<>(elevator.getPassengers());
+
+        passengers.forEach(elevator::letPeopleGo);
+        elevator.getTrips().clear();
+        elevator.setCurrentFloorNumber(new AtomicInteger(floor.getNumberOfFloor()));
+        elevator.park();
+
+        for (Person person : people) {
+            floor.addPerson(person);
+        }
+    }
+
+    @Benchmark
+    public int loadPeople() {
+        elevator.addPeople();
+
+        return elevator.getNumberOfPassengers();
+    }
+}
@@ -0,0 +1,73 @@
+package pinchuk.dmitriy.issoft.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.DirectionOfTravel;
+import pinchuk.dmitriy.issoft.domain.buildings.Floor;
+import pinchuk.dmitriy.issoft.domain.people.Person;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class FloorBenchmark {
+
+    private static final int NUMBER_OF_PEOPLE = 1024;
+
+    @Param({"20", "100"})
+    public int floors;
+
+    @Param({"4", "16"})
+    public int elevators;
+
+    @Param({"1", "10"})
+    public int intensity;
+
+    private Floor floor;
+    private Person[] people;
+
+    @State(Scope.Thread)
+    public static class Spawn {
+
+        private int next;
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Building building = BenchmarkBuildings.scattered(floors, elevators);
+        Random random = new Random(BenchmarkBuildings.SEED);
+
+        floor = building.getFloorWithIndex(floors / 2);
+        people = new Person[NUMBER_OF_PEOPLE];
+
+        for (int i = 0; i < NUMBER_OF_PEOPLE; i++) {
+            int neededFloor = random.nextInt(floors - 1);
+            neededFloor = neededFloor >= floor.getNumberOfFloor() ? neededFloor + 1 : neededFloor;
+            people[i] = Person.of(Person.MIN_WEIGHT + random.nextInt(Person.MAX_WEIGHT - Person.MIN_WEIGHT), floor, neededFloor);
+        }
+    }
+
+    @Benchmark
+    @Group("queue")
+    @GroupThreads(1)
+    public void addPeople(Spawn spawn) {
+        for (int i = 0; i < intensity; i++) {
+            floor.addPerson(people[spawn.next]);
+            spawn.next = (spawn.next + 1) % NUMBER_OF_PEOPLE;
+        }
+    }
+
+    @Benchmark
+    @Group("queue")
+    @GroupThreads(2)
+    public Person pollFirstPerson() {
+        Person person = floor.pollFirstPerson(DirectionOfTravel.UP);
+
+        return person != null ? person : floor.pollFirstPerson(DirectionOfTravel.DOWN);
+    }
+}
@@ -0,0 +1,36 @@
+package pinchuk.dmitriy.issoft;
+
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.Controller;
+import pinchuk.dmitriy.issoft.domain.simulation.Campus;
+
+import java.util.concurrent.TimeUnit;
+
+public class CampusRunner {
+
+    private static final int DEFAULT_NUMBER_OF_BUILDINGS = 100;
+    private static final int DEFAULT_NUMBER_OF_FLOORS = 10;
+    private static final int DEFAULT_NUMBER_OF_ELEVATORS = 5;
+    private static final long DEFAULT_MINUTES = 60;
+
+    public static void main(String[] args) {
+        int numberOfBuildings = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_NUMBER_OF_BUILDINGS;
+        int numberOfFloors = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_NUMBER_OF_FLOORS;
+        int numberOfElevators = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_NUMBER_OF_ELEVATORS;
+        long minutes = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_MINUTES;
+        int numberOfWorkers = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+
+        try (Campus campus = Campus.of(numberOfWorkers)) {
+            for (int i = 1; i <= numberOfBuildings; i++) {
+                campus.addBuilding(Building.of(i, numberOfFloors, numberOfElevators, "address " + i)
+                        .setController(new Controller()), i);
+            }
+
+            campus.runFor(minutes, TimeUnit.MINUTES);
+
+            System.out.printf("buildings=%d workers=%d simulated=%dmin wall=%dms%n", numberOfBuildings, numberOfWorkers,
+                    minutes, TimeUnit.NANOSECONDS.toMillis(campus.getElapsedNanos()));
+            System.out.println(campus.getReport());
+        }
+    }
+}
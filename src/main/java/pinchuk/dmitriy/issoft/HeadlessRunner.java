@@ -0,0 +1,74 @@
+package pinchuk.dmitriy.issoft;
+
+import lombok.SneakyThrows;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.Controller;
+import pinchuk.dmitriy.issoft.domain.journal.JournalReader;
+import pinchuk.dmitriy.issoft.domain.journal.MappedJournal;
+import pinchuk.dmitriy.issoft.domain.simulation.HeadlessSimulation;
+import pinchuk.dmitriy.issoft.domain.simulation.TripRecord;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+// usage: HeadlessRunner floors=10 elevators=5 minutes=60 seed=1 trips=trips.txt journal=events.journal
+public class HeadlessRunner {
+
+    private static final int DEFAULT_NUMBER_OF_FLOORS = 10;
+    private static final int DEFAULT_NUMBER_OF_ELEVATORS = 5;
+    private static final long DEFAULT_MINUTES = 60;
+    private static final long DEFAULT_SEED = 1;
+
+    @SneakyThrows
+    public static void main(String[] args) {
+        int numberOfFloors = DEFAULT_NUMBER_OF_FLOORS;
+        int numberOfElevators = DEFAULT_NUMBER_OF_ELEVATORS;
+        long minutes = DEFAULT_MINUTES;
+        long seed = DEFAULT_SEED;
+        Path tripsPath = null;
+        Path journalPath = null;
+
+        for (String arg : args) {
+            String[] parameter = arg.split("=", 2);
+            checkArgument(parameter.length == 2, "expected name=value: %s", arg);
+
+            switch (parameter[0]) {
+                case "floors" -> numberOfFloors = Integer.parseInt(parameter[1]);
+                case "elevators" -> numberOfElevators = Integer.parseInt(parameter[1]);
+                case "minutes" -> minutes = Long.parseLong(parameter[1]);
+                case "seed" -> seed = Long.parseLong(parameter[1]);
+                case "trips" -> tripsPath = Path.of(parameter[1]);
+                case "journal" -> journalPath = Path.of(parameter[1]);
+                default -> throw new IllegalArgumentException("unknown parameter " + parameter[0]);
+            }
+        }
+
+        Building building = Building.of(1, numberOfFloors, numberOfElevators, "address").setController(new Controller());
+        MappedJournal journal = journalPath != null ? MappedJournal.open(journalPath) : null;
+        if (journal != null) {
+            building.setJournal(journal);
+        }
+
+        HeadlessSimulation simulation = HeadlessSimulation.of(building, seed).runFor(minutes, TimeUnit.MINUTES);
+
+        System.out.printf("seed=%d simulated=%dmin trips=%d events=%d wall=%dms%n", seed, minutes,
+                simulation.getTripLog().size(), simulation.getSimulation().getNumberOfProcessedEvents(),
+                TimeUnit.NANOSECONDS.toMillis(simulation.getElapsedNanos()));
+        System.out.println(building.getLatencyReport());
+
+        if (tripsPath != null) {
+            Files.write(tripsPath, simulation.getTripLog().getRecords().stream()
+                    .map(TripRecord::toString)
+                    .collect(Collectors.toList()));
+        }
+
+        if (journal != null) {
+            journal.close();
+            System.out.println(JournalReader.of(journal.getPath()).countByType());
+        }
+    }
+}
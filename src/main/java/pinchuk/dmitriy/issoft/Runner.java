@@ -3,12 +3,20 @@ package pinchuk.dmitriy.issoft;
 import pinchuk.dmitriy.issoft.domain.buildings.Building;
 import pinchuk.dmitriy.issoft.domain.buildings.Controller;
 import pinchuk.dmitriy.issoft.domain.buildings.Elevator;
+import pinchuk.dmitriy.issoft.domain.journal.AsyncJournal;
+import pinchuk.dmitriy.issoft.domain.journal.Journal;
+import pinchuk.dmitriy.issoft.domain.journal.TextJournal;
+import pinchuk.dmitriy.issoft.domain.metrics.MetricsServer;
 import pinchuk.dmitriy.issoft.domain.util.BuildPrintingUtil;
 
+import java.nio.file.Path;
+import java.util.List;
+
 public class Runner {
     public static void main(String[] args) {
 
-        Building building1 = Building.of(1, 10, 5, "address").setController(new Controller());
+        AsyncJournal journal = AsyncJournal.of(TextJournal.open(Path.of("events.log")));
+        Building building1 = Building.of(1, 10, 5, "address").setController(new Controller()).setJournal(journal);
         for (Elevator elevator: building1.getElevators()) {
             elevator.setLiftingCapacity(400);
             elevator.setDoorSpeed(1);
@@ -19,5 +27,20 @@ public class Runner {
         Thread util = BuildPrintingUtil.of(building1, 1000);
         util.start();
 
+        // an optional port serves prometheus metrics on localhost
+        if (args.length > 0) {
+            MetricsServer.start(Integer.parseInt(args[0]), List.of(building1));
+        }
+
+        // producers are stopped and detached before the journal is closed
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            building1.stopAllPeopleSpawn();
+            building1.stopElevators();
+            building1.stopController();
+            building1.setJournal(Journal.IGNORE);
+            journal.close();
+            System.out.println(building1.getLatencyReport());
+        }));
+
     }
 }
@@ -0,0 +1,77 @@
+package pinchuk.dmitriy.issoft;
+
+import pinchuk.dmitriy.issoft.domain.buildings.StopOrder;
+import pinchuk.dmitriy.issoft.domain.simulation.ParameterSweep;
+import pinchuk.dmitriy.issoft.domain.simulation.SweepResult;
+import pinchuk.dmitriy.issoft.domain.simulation.TrafficPattern;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+// usage: SweepRunner floors=20 elevators=2-8/2 capacity=400,600 door=1 intensity=1-3 seeds=5 minutes=60 workers=4
+//        order=FIFO,LOOK traffic=UNIFORM,UP_PEAK
+public class SweepRunner {
+
+    private static final long DEFAULT_MINUTES = 60;
+
+    public static void main(String[] args) {
+        ParameterSweep sweep = ParameterSweep.of(minutesOf(args), TimeUnit.MINUTES);
+
+        for (String arg : args) {
+            String[] parameter = arg.split("=", 2);
+            checkArgument(parameter.length == 2, "expected name=values: %s", arg);
+
+            switch (parameter[0]) {
+                case "floors" -> sweep.setNumbersOfFloors(rangeOf(parameter[1]));
+                case "elevators" -> sweep.setNumbersOfElevators(rangeOf(parameter[1]));
+                case "capacity" -> sweep.setLiftingCapacities(rangeOf(parameter[1]));
+                case "door" -> sweep.setDoorSpeeds(rangeOf(parameter[1]));
+                case "intensity" -> sweep.setIntensities(rangeOf(parameter[1]));
+                case "order" -> sweep.setStopOrders(Arrays.stream(parameter[1].split(","))
+                        .map(StopOrder::valueOf).toArray(StopOrder[]::new));
+                case "traffic" -> sweep.setTrafficPatterns(Arrays.stream(parameter[1].split(","))
+                        .map(TrafficPattern::valueOf).toArray(TrafficPattern[]::new));
+                case "seeds" -> sweep.setSeeds(LongStream.rangeClosed(1, Long.parseLong(parameter[1])).toArray());
+                case "workers" -> sweep.setParallelism(Integer.parseInt(parameter[1]));
+                case "minutes" -> { }
+                default -> throw new IllegalArgumentException("unknown parameter " + parameter[0]);
+            }
+        }
+
+        long startNanos = System.nanoTime();
+        List<SweepResult> results = sweep.run();
+
+        System.out.println(ParameterSweep.toTable(results));
+        System.out.printf("%d configurations x %d seeds in %d ms%n", results.size(), sweep.getSeeds().size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    private static long minutesOf(String[] args) {
+        return Arrays.stream(args)
+                .filter(i -> i.startsWith("minutes="))
+                .mapToLong(i -> Long.parseLong(i.substring("minutes=".length())))
+                .findFirst()
+                .orElse(DEFAULT_MINUTES);
+    }
+
+    // "4", "2,4,8", "2-8" or "2-8/2"
+    private static int[] rangeOf(String values) {
+        if (values.contains(",")) {
+            return Arrays.stream(values.split(",")).mapToInt(Integer::parseInt).toArray();
+        }
+
+        String[] range = values.split("/", 2);
+        String[] bounds = range[0].split("-", 2);
+        int from = Integer.parseInt(bounds[0]);
+        int to = bounds.length > 1 ? Integer.parseInt(bounds[1]) : from;
+        int step = range.length > 1 ? Integer.parseInt(range[1]) : 1;
+        checkArgument(from <= to && step > 0, "invalid range %s", values);
+
+        return IntStream.iterate(from, i -> i <= to, i -> i + step).toArray();
+    }
+}
@@ -1,10 +1,20 @@
 package pinchuk.dmitriy.issoft.domain.buildings;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import pinchuk.dmitriy.issoft.domain.journal.Journal;
+import pinchuk.dmitriy.issoft.domain.people.PersonPool;
+import pinchuk.dmitriy.issoft.domain.simulation.RealTimeClock;
+import pinchuk.dmitriy.issoft.domain.simulation.SimulationClock;
+import pinchuk.dmitriy.issoft.domain.simulation.TripListener;
+import pinchuk.dmitriy.issoft.domain.util.LatencyHistogram;
+import pinchuk.dmitriy.issoft.domain.util.Storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.IntStream;
@@ -16,6 +26,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
 @Slf4j
 public class Building {
 
+    private static final int MAX_SNAPSHOT_ATTEMPTS = 4;
+
     private int id;
     private final int numberOfFloors;
     private final int numberOfElevators;
@@ -28,6 +40,18 @@ public class Building {
 
     @Getter
     private volatile Controller controller;
+    private volatile SimulationClock clock;
+    private volatile ExecutionStrategy executionStrategy;
+    private volatile TripListener tripListener;
+    private final LatencyHistogram waitTimeHistogram;
+    private final LatencyHistogram rideTimeHistogram;
+    private final Storage storage;
+    private volatile PersonPool personPool;
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong lastPersonId;
+    private volatile Journal journal;
+    @Getter(AccessLevel.NONE)
+    private volatile BuildingSnapshot snapshot;
 
     public static Building of(int id, int numberOfFloors, int numberOfElevators, String address) {
         return new Building(id, numberOfFloors, numberOfElevators, address);
@@ -45,9 +69,19 @@ public class Building {
         this.floors = new ArrayList<>();
         this.elevators = new ArrayList<>();
         this.buildingLock = new ReentrantLock(true);
+        this.clock = RealTimeClock.getInstance();
+        this.executionStrategy = ExecutionStrategy.PLATFORM_THREADS;
+        this.tripListener = TripListener.IGNORE;
+        this.waitTimeHistogram = new LatencyHistogram();
+        this.rideTimeHistogram = new LatencyHistogram();
+        this.storage = new Storage(numberOfElevators, numberOfFloors);
+        this.personPool = new PersonPool(0);
+        this.lastPersonId = new AtomicLong();
+        this.journal = Journal.IGNORE;
 
         IntStream.range(0 , numberOfFloors).forEachOrdered(i -> getFloors().add(Floor.of(i, this)));
         IntStream.range(0 , numberOfElevators).forEachOrdered(i -> getElevators().add(Elevator.of(i, this)));
+        this.snapshot = BuildingSnapshot.of(this);
     }
 
     public Building setController(Controller controller) {
@@ -59,6 +93,83 @@ public class Building {
         return this;
     }
 
+    public Building setClock(SimulationClock clock) {
+        checkNotNull(clock);
+
+        this.clock = clock;
+
+        return this;
+    }
+
+    public Building setExecutionStrategy(ExecutionStrategy executionStrategy) {
+        checkNotNull(executionStrategy);
+
+        this.executionStrategy = executionStrategy;
+
+        return this;
+    }
+
+    public Building setTripListener(TripListener tripListener) {
+        checkNotNull(tripListener);
+
+        this.tripListener = tripListener;
+
+        return this;
+    }
+
+    public Building setJournal(Journal journal) {
+        checkNotNull(journal);
+
+        this.journal = journal;
+
+        return this;
+    }
+
+    public Building setPersonPool(PersonPool personPool) {
+        checkNotNull(personPool);
+
+        this.personPool = personPool;
+
+        return this;
+    }
+
+    // ids outlive the pool, which may be replaced between runs
+    public long nextPersonId() {
+        return lastPersonId.incrementAndGet();
+    }
+
+    public Building setRandomSeed(long seed) {
+        Random seeds = new Random(seed);
+        floors.forEach(i -> i.getPeopleSpawn().setSeed(seeds.nextLong()));
+
+        return this;
+    }
+
+    public Building setQueueCapacity(int capacity) {
+        checkArgument(capacity > 0);
+        checkArgument(floors.stream().allMatch(i -> i.canHoldQueues(capacity)), "queues hold more than %s people", capacity);
+
+        floors.forEach(i -> i.setQueueCapacity(capacity));
+
+        return this;
+    }
+
+    public Building setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        checkNotNull(overflowPolicy);
+
+        floors.forEach(i -> i.setOverflowPolicy(overflowPolicy));
+
+        return this;
+    }
+
+    public Building setStopOrder(StopOrder stopOrder) {
+        checkNotNull(stopOrder);
+
+        elevators.forEach(i -> i.setStopOrder(stopOrder));
+
+        return this;
+    }
+
     public Floor getFloorWithIndex(int index) {
         checkArgument(index < numberOfFloors);
 
@@ -66,16 +177,20 @@ public class Building {
     }
 
     public void startAllPeopleSpawn() {
-        IntStream.range( 0, this.numberOfFloors).forEachOrdered(i -> new Thread(floors.get(i).getPeopleSpawn(), "PeopleSpawnGenerator " + i).start());
+        IntStream.range( 0, this.numberOfFloors).forEachOrdered(i -> executionStrategy.start(floors.get(i).getPeopleSpawn(), "PeopleSpawnGenerator " + i));
+    }
+
+    public void stopAllPeopleSpawn() {
+        floors.forEach(i -> i.getPeopleSpawn().pause());
     }
 
     public void startAllElevators() {
-        IntStream.range( 0, this.numberOfElevators).forEachOrdered(i -> new Thread(elevators.get(i), "Elevator " + i).start());
+        IntStream.range( 0, this.numberOfElevators).forEachOrdered(i -> executionStrategy.start(elevators.get(i), "Elevator " + i));
     }
 
     public void startController() {
         checkNotNull(controller);
-        new Thread(controller, "Controller").start();
+        executionStrategy.start(controller, "Controller");
     }
 
     public void stop() {
@@ -83,6 +198,38 @@ public class Building {
 
         stopElevators();
         stopController();
+        log.info(getLatencyReport());
+    }
+
+    // a rebuild is cached only if no part changed while it was read; otherwise the last consistent view is kept
+    public BuildingSnapshot snapshot() {
+        BuildingSnapshot cached = snapshot;
+
+        if (cached.isCurrent(this)) {
+            return cached;
+        }
+
+        for (int i = 0; i < MAX_SNAPSHOT_ATTEMPTS; i++) {
+            BuildingSnapshot rebuilt = BuildingSnapshot.of(this);
+            if (rebuilt.isCurrent(this)) {
+                snapshot = rebuilt;
+                return rebuilt;
+            }
+        }
+
+        return cached;
+    }
+
+    public String getLatencyReport() {
+        StringBuilder report = new StringBuilder()
+                .append("Building ").append(id).append(": wait ").append(waitTimeHistogram)
+                .append("; ride ").append(rideTimeHistogram);
+
+        elevators.forEach(i -> report.append(System.lineSeparator())
+                .append("Elevator ").append(i.getNumber()).append(": wait ").append(i.getWaitTimeHistogram())
+                .append("; ride ").append(i.getRideTimeHistogram()));
+
+        return report.toString();
     }
 
     public void stopController() {
@@ -0,0 +1,104 @@
+package pinchuk.dmitriy.issoft.domain.buildings;
+
+import com.google.common.collect.ImmutableList;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+@Getter
+public class BuildingSnapshot {
+
+    private final long timeMillis;
+    private final List<ElevatorSnapshot> elevators;
+    private final List<Trip> hallCalls;
+    @Getter(AccessLevel.NONE)
+    private final LobbySnapshot[] lobbies;
+    private final int numberOfWaitingPeople;
+
+    static BuildingSnapshot of(Building building) {
+        checkNotNull(building);
+
+        List<Floor> floors = building.getFloors();
+        LobbySnapshot[] lobbies = new LobbySnapshot[floors.size()];
+        int waiting = 0;
+
+        for (int i = 0; i < floors.size(); i++) {
+            lobbies[i] = floors.get(i).getSnapshot();
+            waiting += lobbies[i].getNumberOfWaitingPeople();
+        }
+
+        List<ElevatorSnapshot> elevators = building.getElevators().stream()
+                .map(Elevator::getSnapshot)
+                .collect(ImmutableList.toImmutableList());
+
+        return new BuildingSnapshot(building.getClock().currentTimeMillis(), elevators, hallCallsOf(building), lobbies, waiting);
+    }
+
+    private static List<Trip> hallCallsOf(Building building) {
+        return building.getController() == null ? ImmutableList.of() : building.getController().getAllTrips();
+    }
+
+    private BuildingSnapshot(long timeMillis, List<ElevatorSnapshot> elevators, List<Trip> hallCalls,
+                             LobbySnapshot[] lobbies, int numberOfWaitingPeople) {
+        this.timeMillis = timeMillis;
+        this.elevators = elevators;
+        this.hallCalls = hallCalls;
+        this.lobbies = lobbies;
+        this.numberOfWaitingPeople = numberOfWaitingPeople;
+    }
+
+    // owners publish a new instance on every change, so unchanged identities mean unchanged state
+    boolean isCurrent(Building building) {
+        List<Elevator> cars = building.getElevators();
+        for (int i = 0; i < elevators.size(); i++) {
+            if (cars.get(i).getSnapshot() != elevators.get(i)) {
+                return false;
+            }
+        }
+
+        List<Floor> floors = building.getFloors();
+        for (int i = 0; i < lobbies.length; i++) {
+            if (floors.get(i).getSnapshot() != lobbies[i]) {
+                return false;
+            }
+        }
+
+        return hallCallsOf(building) == hallCalls;
+    }
+
+    public ElevatorSnapshot getElevator(int index) {
+        return elevators.get(index);
+    }
+
+    public int getNumberOfFloors() {
+        return lobbies.length;
+    }
+
+    public int getNumberOfPeopleGoingUp(int floor) {
+        checkElementIndex(floor, lobbies.length);
+
+        return lobbies[floor].getNumberOfPeopleGoingUp();
+    }
+
+    public int getNumberOfPeopleGoingDown(int floor) {
+        checkElementIndex(floor, lobbies.length);
+
+        return lobbies[floor].getNumberOfPeopleGoingDown();
+    }
+
+    public int getNumberOfWaitingPeople(int floor) {
+        checkElementIndex(floor, lobbies.length);
+
+        return lobbies[floor].getNumberOfWaitingPeople();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("(Time:%d; Elevators:%d; Waiting:%d; Hall calls:%d)",
+                timeMillis, elevators.size(), numberOfWaitingPeople, hallCalls.size());
+    }
+}
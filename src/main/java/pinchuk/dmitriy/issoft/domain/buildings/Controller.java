@@ -5,12 +5,14 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import pinchuk.dmitriy.issoft.domain.dispatch.DispatchStrategy;
+import pinchuk.dmitriy.issoft.domain.dispatch.EstimatedTimeOfArrivalDispatchStrategy;
+import pinchuk.dmitriy.issoft.domain.jfr.DispatchEvent;
 
 import java.util.*;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -24,20 +26,26 @@ public class Controller implements Runnable {
     @Getter
     private List<Elevator> elevators;
     @Getter
-    private final Queue<Trip> trips;
+    private final HallCallIndex trips;
+    @Getter
+    private volatile DispatchStrategy dispatchStrategy;
 
     private final Condition controllerStopCondition;
     private final Lock callLock;
     private final Lock elevatorLock;
+    private long stateVersion;
+    private volatile List<Trip> pendingTrips;
 
     public Controller() {
 
         this.elevators = new ArrayList<>();
-        this.trips = new LinkedList<>();
+        this.trips = new HallCallIndex();
+        this.dispatchStrategy = new EstimatedTimeOfArrivalDispatchStrategy();
         this.callLock = new ReentrantLock(true);
         this.elevatorLock = new ReentrantLock(true);
         this.controllerStopCondition = callLock.newCondition();
         this.isWorking = false;
+        this.pendingTrips = ImmutableList.of();
 
     }
 
@@ -50,12 +58,21 @@ public class Controller implements Runnable {
         return controller;
     }
 
+    public Controller setDispatchStrategy(DispatchStrategy dispatchStrategy) {
+        checkNotNull(dispatchStrategy);
+
+        this.dispatchStrategy = dispatchStrategy;
+
+        return this;
+    }
+
+    // republished under callLock whenever the set of calls changes
     public List<Trip> getAllTrips() {
-        callLock.lock();
-        List<Trip> allTrips = ImmutableList.copyOf(trips);
-        callLock.unlock();
+        return pendingTrips;
+    }
 
-        return allTrips;
+    private void publishTrips() {
+        pendingTrips = ImmutableList.copyOf(trips);
     }
 
     public boolean canCallElevator(Trip trip) {
@@ -63,6 +80,7 @@ public class Controller implements Runnable {
 
         elevatorLock.lock();
         boolean result = elevators.stream()
+                .map(Elevator::getSnapshot)
                 .noneMatch(i -> (i.getDirectionOfTravel().equals(trip.getDirection()) || i.getDirectionOfTravel().equals(DirectionOfTravel.NONE))
                         && i.getCurrentFloorNumber() == trip.getTargetFloorWithIndexNumber()
                         && (i.getElevatorState().equals(ElevatorState.LOAD) || i.getElevatorState().equals(ElevatorState.OPEN_DOOR)));
@@ -77,53 +95,92 @@ public class Controller implements Runnable {
         checkArgument(trip.getTargetFloorWithIndexNumber() >= Floor.NUMBER_OF_FIRST_FLOOR);
 
         callLock.lock();
-        trips.add(trip);
-        controllerStopCondition.signal();
+        if (trips.add(trip)) {
+            publishTrips();
+            stateVersion++;
+            controllerStopCondition.signal();
+        }
         callLock.unlock();
 
-        log.info("trip added: {}", trip.getTargetFloorWithIndexNumber());
+        log.debug("trip added: {}", trip.getTargetFloorWithIndexNumber());
     }
 
     public void removeTrip(Trip trip) {
         checkNotNull(trip);
 
         callLock.lock();
-        trips.removeAll(trips.stream().filter(trip::equals).collect(Collectors.toList()));
+        if (trips.remove(trip)) {
+            publishTrips();
+        }
         callLock.unlock();
-        log.info("trip has been removed {}", trip);
+        log.debug("trip has been removed {}", trip);
+    }
+
+    public void notifyElevatorAvailable(Elevator elevator) {
+        checkNotNull(elevator);
+
+        callLock.lock();
+        stateVersion++;
+        controllerStopCondition.signal();
+        callLock.unlock();
+    }
+
+    public long getStateVersion() {
+        callLock.lock();
+        long version = stateVersion;
+        callLock.unlock();
+
+        return version;
     }
 
     @SneakyThrows
-    public void waitTrip() {
+    public void waitForChange(long version) {
         callLock.lock();
-        while (trips.isEmpty()) {
+        while (isWorking && stateVersion == version) {
             controllerStopCondition.await();
         }
         callLock.unlock();
     }
 
+    public void sendAllTrips() {
+        callLock.lock();
+        for (int i = trips.size(); i > 0; i--) {
+            sendTrip();
+        }
+        callLock.unlock();
+    }
+
     public void sendTrip() {
         callLock.lock();
 
         if (!trips.isEmpty()) {
+            DispatchEvent event = new DispatchEvent();
+            event.begin();
+
             Trip trip = trips.poll();
 
-            List<Elevator> suitableElevators;
+            Optional<Elevator> suitableElevator;
+            int candidates = 0;
 
             elevatorLock.lock();
-            suitableElevators = elevators.stream()
-                    .filter(i -> i.getDirectionOfTravel().equals(DirectionOfTravel.NONE)
-                            && i.getElevatorState().equals(ElevatorState.STOP))
-                    .sorted(Comparator.comparing(i -> Math.abs(i.getCurrentFloorNumber() - trip.getTargetFloorWithIndexNumber())))
-                    .collect(Collectors.toList());
+            suitableElevator = dispatchStrategy.selectElevator(trip, elevators);
+            if (event.isEnabled()) {
+                candidates = dispatchStrategy.countCandidates(trip, elevators);
+            }
             elevatorLock.unlock();
 
-            if (!suitableElevators.isEmpty()) {
-                suitableElevators.get(0).addTrip(trip);
+            if (suitableElevator.isPresent()) {
+                suitableElevator.get().assignTrip(trip);
+                if (dispatchStrategy.needsAnotherElevator(trip, elevators)) {
+                    trips.add(trip);
+                }
+                publishTrips();
             } else {
                 trips.add(trip);
             }
 
+            event.commit(trip.getTargetFloorWithIndexNumber(), trip.getDirection().name(), candidates,
+                    suitableElevator.isPresent() ? suitableElevator.get().getNumber() : DispatchEvent.NO_ELEVATOR);
         }
 
         callLock.unlock();
@@ -135,16 +192,18 @@ public class Controller implements Runnable {
         unpause();
 
         while (isWorking) {
-            while (trips.isEmpty()) {
-                waitTrip();
-            }
-            sendTrip();
+            long version = getStateVersion();
+            sendAllTrips();
+            waitForChange(version);
         }
     }
 
 
     public void pause() {
+        callLock.lock();
         isWorking = false;
+        controllerStopCondition.signal();
+        callLock.unlock();
     }
 
     public void unpause() {
@@ -1,11 +1,17 @@
 package pinchuk.dmitriy.issoft.domain.buildings;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import pinchuk.dmitriy.issoft.domain.jfr.ElevatorBoardingEvent;
+import pinchuk.dmitriy.issoft.domain.jfr.ElevatorDoorEvent;
+import pinchuk.dmitriy.issoft.domain.jfr.ElevatorTravelEvent;
+import pinchuk.dmitriy.issoft.domain.journal.Journal;
+import pinchuk.dmitriy.issoft.domain.journal.JournalEventType;
 import pinchuk.dmitriy.issoft.domain.people.Person;
-import pinchuk.dmitriy.issoft.domain.util.Storage;
+import pinchuk.dmitriy.issoft.domain.util.LatencyHistogram;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -24,6 +30,7 @@ import static com.google.common.base.Preconditions.*;
 public class Elevator extends Thread {
 
     public static int DEFAULT_DOOR_SPEED = 1;
+    public static int DEFAULT_BOARDING_TIME = 1;
     public static int DEFAULT_ELEVATOR_CAPACITY = 400;
     public static int DEFAULT_ELEVATOR_TRAVEL_SPEED = 1;
     public static int START_FLOOR_NUMBER = 0;
@@ -32,16 +39,26 @@ public class Elevator extends Thread {
     private int liftingCapacity;
     private int travelSpeed; //floors in second
     private int doorSpeed;
+    private int boardingTime; //seconds per boarding batch
     private volatile boolean isMoving;
 
     private volatile Building building;
     private volatile DirectionOfTravel directionOfTravel;
     private volatile ElevatorState elevatorState;
+    @Setter(AccessLevel.NONE)
+    private volatile ElevatorSnapshot snapshot;
 
     private final AtomicInteger numberOfDeliveredPeople;
+    private final LatencyHistogram waitTimeHistogram;
+    private final LatencyHistogram rideTimeHistogram;
     private AtomicInteger currentFloorNumber;
-    private List<Person> passengers = new ArrayList<>();
-    private List<Trip> trips;
+    private PassengerManifest passengers = new PassengerManifest();
+    @Setter(AccessLevel.NONE)
+    private volatile int passengersWeight;
+    @Setter(AccessLevel.NONE)
+    private volatile int numberOfPassengers;
+    private StopSchedule trips;
+    private List<Trip> executedTrips;
 
     private Condition elevatorStopCondition;
     private final Lock elevatorLock;
@@ -49,6 +66,7 @@ public class Elevator extends Thread {
     private final Lock tripLock;
     private final Lock currentFloorLock;
     private final Lock printLock;
+    private final Lock snapshotLock;
 
     public static Elevator of(int number, Building building) {
         return new Elevator(number, DEFAULT_ELEVATOR_CAPACITY, DEFAULT_ELEVATOR_TRAVEL_SPEED, building);
@@ -63,16 +81,23 @@ public class Elevator extends Thread {
     }
 
     private Elevator(int number, int liftingCapacity, int travelSpeed, Building building) {
+        checkNotNull(building);
+        // storage keeps per-elevator counters indexed by this number
+        checkElementIndex(number, building.getNumberOfElevators());
 
         this.number = number;
         this.liftingCapacity = liftingCapacity;
         this.travelSpeed = travelSpeed;
         this.building = building;
         this.doorSpeed = DEFAULT_DOOR_SPEED;
+        this.boardingTime = DEFAULT_BOARDING_TIME;
         this.directionOfTravel = DirectionOfTravel.NONE;
         this.currentFloorNumber = new AtomicInteger(START_FLOOR_NUMBER);
         this.numberOfDeliveredPeople = new AtomicInteger(0);
-        this.trips = new ArrayList<>();
+        this.waitTimeHistogram = new LatencyHistogram();
+        this.rideTimeHistogram = new LatencyHistogram();
+        this.trips = new StopSchedule();
+        this.executedTrips = new ArrayList<>();
         this.elevatorState = ElevatorState.STOP;
         this.elevatorLock = new ReentrantLock();
         this.stateLock = new ReentrantLock();
@@ -80,9 +105,31 @@ public class Elevator extends Thread {
         this.currentFloorLock = new ReentrantLock();
         this.printLock = new ReentrantLock();
         this.elevatorStopCondition = tripLock.newCondition();
+        this.snapshotLock = new ReentrantLock();
+        publishSnapshot();
 
     }
 
+    public void setCurrentFloorNumber(AtomicInteger currentFloorNumber) {
+        currentFloorLock.lock();
+        this.currentFloorNumber = currentFloorNumber;
+        currentFloorLock.unlock();
+
+        publishSnapshot();
+    }
+
+    public void setLiftingCapacity(int liftingCapacity) {
+        this.liftingCapacity = liftingCapacity;
+        publishSnapshot();
+    }
+
+    private void publishSnapshot() {
+        snapshotLock.lock();
+        snapshot = ElevatorSnapshot.of(currentFloorNumber.get(), directionOfTravel, elevatorState,
+                getFreeCapacity(), numberOfPassengers);
+        snapshotLock.unlock();
+    }
+
 
     public int getCurrentFloorNumber() {
         currentFloorLock.lock();
@@ -101,11 +148,33 @@ public class Elevator extends Thread {
     }
 
     public int getFreeCapacity() {
+        return liftingCapacity - passengersWeight;
+    }
+
+    public void setStopOrder(StopOrder order) {
+        checkNotNull(order);
+
         tripLock.lock();
-        int usedSpace = passengers.stream().mapToInt(Person::getWeight).sum();
+        StopSchedule schedule = new StopSchedule(order);
+        schedule.addAll(trips);
+        trips = schedule;
         tripLock.unlock();
+    }
 
-        return liftingCapacity - usedSpace;
+    public int getNumberOfStopsBetween(int fromFloor, int toFloor) {
+        tripLock.lock();
+        int stops = trips.countStopsBetween(fromFloor, toFloor);
+        tripLock.unlock();
+
+        return stops;
+    }
+
+    public boolean hasTrip(Trip trip) {
+        tripLock.lock();
+        boolean result = trips.contains(trip);
+        tripLock.unlock();
+
+        return result;
     }
 
     public DirectionOfTravel getDirectionOfTravel() {
@@ -132,7 +201,8 @@ public class Elevator extends Thread {
         if(currentFloorNumber.get() == building.getNumberOfFloors()) {
             currentDirection = DirectionOfTravel.DOWN;
         } else {
-            currentDirection = trips.isEmpty() ? DirectionOfTravel.NONE : trips.get(0).getDirection();
+            Trip nextStop = trips.nextStop(currentFloorNumber.get(), directionOfTravel);
+            currentDirection = nextStop == null ? DirectionOfTravel.NONE : getDirectionTo(nextStop);
         }
 
         stateLock.unlock();
@@ -140,6 +210,16 @@ public class Elevator extends Thread {
         return currentDirection;
     }
 
+    private DirectionOfTravel getDirectionTo(Trip trip) {
+        int targetFloor = trip.getTargetFloorWithIndexNumber();
+
+        if (targetFloor == currentFloorNumber.get()) {
+            return trip.getDirection();
+        }
+
+        return targetFloor > currentFloorNumber.get() ? DirectionOfTravel.UP : DirectionOfTravel.DOWN;
+    }
+
     public void addTrip(Trip trip) {
         checkNotNull(trip);
 
@@ -159,32 +239,70 @@ public class Elevator extends Thread {
         currentFloorLock.unlock();
         stateLock.unlock();
 
-        log.info("elevator called from " + currentFloorNumber.get() + " with direction " + directionOfTravel + " to " + trip);
+        publishSnapshot();
+
+        log.debug("elevator called from {} with direction {} to {}", currentFloorNumber, directionOfTravel, trip);
+    }
+
+    public void assignTrip(Trip trip) {
+        checkNotNull(trip);
+
+        journal(JournalEventType.ASSIGNMENT, trip.getTargetFloorWithIndexNumber(), trip.getDirection().ordinal(), Journal.NO_PERSON);
+        addTrip(trip);
+    }
+
+    private void journal(JournalEventType type, int floorNumber, int value, long personId) {
+        building.getJournal().append(type, building.getClock().currentTimeMillis(), number, floorNumber, value, personId);
     }
 
     @SneakyThrows
     private void disable() {
 
         tripLock.lock();
-        stateLock.lock();
-        directionOfTravel = DirectionOfTravel.NONE;
-        elevatorState = ElevatorState.STOP;
-        stateLock.unlock();
+        setIdleState();
+        tripLock.unlock();
+
+        notifyAvailable();
 
+        tripLock.lock();
         while (trips.isEmpty()) {
-            log.info("elevator " + number + " stopped");
+            log.debug("elevator {} stopped", number);
             elevatorStopCondition.await();
         }
 
         tripLock.unlock();
     }
 
+    public void park() {
+        setIdleState();
+        notifyAvailable();
+    }
+
+    private void setIdleState() {
+        stateLock.lock();
+        directionOfTravel = DirectionOfTravel.NONE;
+        elevatorState = ElevatorState.STOP;
+        stateLock.unlock();
+
+        publishSnapshot();
+    }
+
+    private void notifyAvailable() {
+        Controller controller = building.getController();
+
+        if (controller != null) {
+            controller.notifyElevatorAvailable(this);
+        }
+    }
+
     public void end() {
         stateLock.lock();
         directionOfTravel = DirectionOfTravel.NONE;
         elevatorState = ElevatorState.END;
         stateLock.unlock();
 
+        publishSnapshot();
+
         log.warn("elevator has finished his way");
     }
 
@@ -225,22 +343,32 @@ public class Elevator extends Thread {
 
     @SneakyThrows
     public void openDoor() {
+        ElevatorDoorEvent event = new ElevatorDoorEvent();
+        event.begin();
+
         stateLock.lock();
         elevatorState = ElevatorState.OPEN_DOOR;
         stateLock.unlock();
+        publishSnapshot();
 
-        TimeUnit.SECONDS.sleep(doorSpeed);
-        log.info("elevator has opened his door");
+        building.getClock().sleep(TimeUnit.SECONDS, doorSpeed);
+        event.commit(building.getId(), number, currentFloorNumber.get(), true);
+        log.debug("elevator has opened his door");
     }
 
     @SneakyThrows
     public void closeDoor() {
+        ElevatorDoorEvent event = new ElevatorDoorEvent();
+        event.begin();
+
         stateLock.lock();
         this.elevatorState = ElevatorState.CLOSE_DOOR;
         stateLock.unlock();
-        TimeUnit.SECONDS.sleep(getDoorSpeed());
+        publishSnapshot();
+        building.getClock().sleep(TimeUnit.SECONDS, getDoorSpeed());
+        event.commit(building.getId(), number, currentFloorNumber.get(), false);
 
-        log.info("elevator has closed his door");
+        log.debug("elevator has closed his door");
     }
 
     public void addPeople() {
@@ -248,68 +376,144 @@ public class Elevator extends Thread {
         stateLock.lock();
         this.elevatorState = ElevatorState.LOAD;
         stateLock.unlock();
+        publishSnapshot();
 
         elevatorLock.lock();
-        List<Person> peopleForDisembark = passengers.stream()
-                .filter(i -> i.getTrip().getTargetFloorWithIndexNumber() == currentFloorNumber.get())
-                .collect(Collectors.toList());
+        List<Person> peopleForDisembark = passengers.drainPassengersTo(currentFloorNumber.get());
         elevatorLock.unlock();
 
-        peopleForDisembark.forEach(this::letPeopleGo);
-        log.info("elevator has finished disembarking");
+        peopleForDisembark.forEach(this::disembark);
+        log.debug("elevator has finished disembarking");
 
         elevatorLock.lock();
         stateLock.lock();
-        if (passengers.isEmpty() && trips.isEmpty()) {
-            log.info("elevator is empty");
+        if (numberOfPassengers == 0 && trips.isEmpty()) {
+            log.debug("elevator is empty");
             directionOfTravel = DirectionOfTravel.NONE;
-        } else if (passengers.isEmpty()) {
+        } else if (numberOfPassengers == 0) {
             directionOfTravel = getNextDirection();
         }
         stateLock.unlock();
         elevatorLock.unlock();
+        publishSnapshot();
 
         loadPeople();
+        recallExecutedTrips();
+        notifyAvailable();
+
+        log.debug("elevator finishes load");
+    }
+
+    private void recallExecutedTrips() {
+        Floor floor = getCurrentFloor();
+        DirectionOfTravel direction = getDirectionOfTravel();
+
+        tripLock.lock();
+        List<DirectionOfTravel> executedDirections = executedTrips.stream()
+                .map(Trip::getDirection)
+                .distinct()
+                .collect(Collectors.toList());
+        executedTrips.clear();
+        tripLock.unlock();
 
-        log.info("elevator finishes load");
+        executedDirections.stream()
+                .filter(i -> i != direction && floor.getFirstPerson(i) != null)
+                .map(i -> Trip.of(floor.getNumberOfFloor(), i))
+                .forEach(i -> {
+                    building.getController().addTrip(i);
+                    log.debug("elevator goes the other way, recall {}", i);
+                });
     }
 
     public void letPeopleGo(Person person) {
         checkNotNull(person);
-        checkArgument(passengers.contains(person));
 
         elevatorLock.lock();
-        passengers.remove(person);
+        boolean isPassenger = passengers.remove(person);
         elevatorLock.unlock();
 
-        Storage.getInstance().incrementNumberOfDeliveredPeople();
+        checkArgument(isPassenger);
+        disembark(person);
+    }
+
+    private void disembark(Person person) {
+        elevatorLock.lock();
+        passengersWeight -= person.getWeight();
+        numberOfPassengers--;
+        elevatorLock.unlock();
+        publishSnapshot();
+
+        person.setAlightTimeMillis(building.getClock().currentTimeMillis());
+        rideTimeHistogram.record(person.getRideTimeMillis());
+        building.getRideTimeHistogram().record(person.getRideTimeMillis());
+
+        journal(JournalEventType.ALIGHTING, currentFloorNumber.get(), person.getWeight(), person.getId());
+        building.getStorage().incrementNumberOfDeliveredPeople(number, person.getNeededFloor());
         numberOfDeliveredPeople.incrementAndGet();
-        log.info("elevator disembark the next Person: {}", person);
+        building.getTripListener().onTripCompleted(this, person, person.getAlightTimeMillis());
+        log.debug("elevator disembark the next Person: {}", person);
+        building.getPersonPool().release(person);
     }
 
-    @SneakyThrows
     public void takePerson(Person person) {
         checkNotNull(person);
 
+        takePeople(List.of(person));
+    }
+
+    @SneakyThrows
+    public void takePeople(List<Person> people) {
+        checkNotNull(people);
+
+        if (people.isEmpty()) {
+            return;
+        }
+
+        ElevatorBoardingEvent event = new ElevatorBoardingEvent();
+        event.begin();
+
+        DirectionOfTravel direction = people.get(0).getTrip().getDirection();
+
         stateLock.lock();
         if (directionOfTravel == DirectionOfTravel.NONE) {
-            directionOfTravel = person.getTrip().getDirection();
+            directionOfTravel = direction;
         }
         stateLock.unlock();
 
+        int weight = 0;
         elevatorLock.lock();
-        passengers.add(person);
+        for (Person person : people) {
+            passengers.add(person);
+            passengersWeight += person.getWeight();
+            numberOfPassengers++;
+            weight += person.getWeight();
+        }
         elevatorLock.unlock();
+        publishSnapshot();
+
+        long boardTimeMillis = building.getClock().currentTimeMillis();
+        for (Person person : people) {
+            journal(JournalEventType.BOARDING, getCurrentFloorNumber(), person.getNeededFloor(), person.getId());
+            person.setBoardTimeMillis(boardTimeMillis);
+            waitTimeHistogram.record(person.getWaitTimeMillis());
+            building.getWaitTimeHistogram().record(person.getWaitTimeMillis());
+        }
 
-        building.getController().removeTrip(Trip.of(getCurrentFloorNumber(), person.getTrip().getDirection()));
-        addTrip(person.getTrip());
+        people.stream()
+                .map(i -> i.getTrip().getDirection())
+                .distinct()
+                .forEach(i -> building.getController().removeTrip(Trip.of(getCurrentFloorNumber(), i)));
+        people.stream()
+                .map(Person::getTrip)
+                .distinct()
+                .forEach(this::addTrip);
 
-        TimeUnit.SECONDS.sleep(doorSpeed);
+        building.getClock().sleep(TimeUnit.SECONDS, boardingTime);
+        event.commit(building.getId(), number, currentFloorNumber.get(), people.size(), weight);
 
-        log.info("elevator take the next Person: {}", person);
+        log.debug("elevator take {} people", people.size());
     }
 
-    @SneakyThrows
     public void loadPeople() {
 
         boolean isLoading = true;
@@ -331,25 +535,26 @@ public class Elevator extends Thread {
                         directionOfTravel = person.getTrip().getDirection();
                     }
                     stateLock.unlock();
-                    person = building.getFloorWithIndex(currentFloorNumber.get()).pollFirstPerson(directionOfTravel);
+                    List<Person> people = getCurrentFloor().pollPeople(directionOfTravel, getFreeCapacity());
 
                     getCurrentFloor().getFloorLock().unlock();
-                    takePerson(person);
+                    takePeople(people);
 
-                    log.info("person has been picked up {}", person);
+                    log.debug("{} people have been picked up", people.size());
                 } else {
                     stateLock.unlock();
                     getCurrentFloor().getFloorLock().unlock();
                     building.getController().addTrip(Trip.of(currentFloorNumber.get(), person.getTrip().getDirection()));
 
-                    log.info("elevator cannot pick up person, 'cause there is not enough space {}", person);
-                    log.info("elevator recall {}", person.getTrip());
+                    log.debug("elevator cannot pick up person, 'cause there is not enough space {}", person);
+                    log.debug("elevator recall {}", person.getTrip());
 
                     isLoading = false;
                 }
             } else {
                 stateLock.unlock();
                 getCurrentFloor().getFloorLock().unlock();
+
                 isLoading = false;
             }
         }
@@ -359,91 +564,119 @@ public class Elevator extends Thread {
     public void goUp() {
         checkState(getCurrentFloorNumber() < building.getNumberOfFloors());
 
+        ElevatorTravelEvent event = new ElevatorTravelEvent();
+        event.begin();
+        int floor = currentFloorNumber.get();
+
         stateLock.lock();
+        boolean isTurning = directionOfTravel != DirectionOfTravel.UP;
         directionOfTravel = DirectionOfTravel.UP;
         elevatorState = ElevatorState.MOVE;
         stateLock.unlock();
 
+        if (isTurning) {
+            notifyAvailable();
+        }
+
         currentFloorLock.lock();
         currentFloorNumber.incrementAndGet();
         currentFloorLock.unlock();
+        publishSnapshot();
+        journal(JournalEventType.MOVE, currentFloorNumber.get(), DirectionOfTravel.UP.ordinal(), Journal.NO_PERSON);
 
-        Storage.getInstance().incrementNumberOfPassedFloors();
+        building.getStorage().incrementNumberOfPassedFloors(number);
 
-        TimeUnit.SECONDS.sleep(travelSpeed);
+        building.getClock().sleep(TimeUnit.SECONDS, travelSpeed);
+        event.commit(building.getId(), number, floor, currentFloorNumber.get(), DirectionOfTravel.UP.name());
 
-        log.info("elevator moved up to floor number {}", currentFloorNumber);
+        log.debug("elevator moved up to floor number {}", currentFloorNumber);
     }
 
     @SneakyThrows
     public void goDown() {
         checkState(currentFloorNumber.get() > Floor.NUMBER_OF_FIRST_FLOOR);
 
+        ElevatorTravelEvent event = new ElevatorTravelEvent();
+        event.begin();
+        int floor = currentFloorNumber.get();
+
         stateLock.lock();
+        boolean isTurning = directionOfTravel != DirectionOfTravel.DOWN;
         directionOfTravel = DirectionOfTravel.DOWN;
         elevatorState = ElevatorState.MOVE;
         stateLock.unlock();
 
+        if (isTurning) {
+            notifyAvailable();
+        }
+
         currentFloorLock.lock();
         currentFloorNumber.decrementAndGet();
         currentFloorLock.unlock();
+        publishSnapshot();
+        journal(JournalEventType.MOVE, currentFloorNumber.get(), DirectionOfTravel.DOWN.ordinal(), Journal.NO_PERSON);
 
-        Storage.getInstance().incrementNumberOfPassedFloors();
+        building.getStorage().incrementNumberOfPassedFloors(number);
 
-        TimeUnit.SECONDS.sleep(travelSpeed);
+        building.getClock().sleep(TimeUnit.SECONDS, travelSpeed);
+        event.commit(building.getId(), number, floor, currentFloorNumber.get(), DirectionOfTravel.DOWN.name());
 
-        log.info("elevator moved down to floor number {}", currentFloorNumber);
+        log.debug("elevator moved down to floor number {}", currentFloorNumber);
     }
 
     public boolean removeExecutedTrips() {
         boolean hasExecutedTrips = false;
 
         tripLock.lock();
-        List<Trip> currentFloorTrips = trips.stream()
-                .filter(i -> i.getTargetFloorWithIndexNumber() == currentFloorNumber.get())
-                .collect(Collectors.toList());
-        hasExecutedTrips = trips.removeAll(currentFloorTrips);
+        List<Trip> currentFloorTrips = trips.removeStopsAt(currentFloorNumber.get());
+        executedTrips.addAll(currentFloorTrips);
+        hasExecutedTrips = !currentFloorTrips.isEmpty();
         tripLock.unlock();
 
         return hasExecutedTrips;
     }
 
-    @SneakyThrows
-    @Override
-    public void run() {
+    public boolean step() {
 
         int currentTripFloorNumber;
         boolean hasExecutedTrips;
         boolean waitOnThisFloor;
 
-        unpause();
+        tripLock.lock();
 
-        while(isMoving) {
+        if (trips.isEmpty()) {
+            tripLock.unlock();
+            return false;
+        }
 
-            tripLock.lock();
+        currentTripFloorNumber = trips.nextStop(currentFloorNumber.get(), directionOfTravel).getTargetFloorWithIndexNumber();
+        hasExecutedTrips = currentTripFloorNumber == currentFloorNumber.get() && removeExecutedTrips();
 
-            if(trips.isEmpty()) {
-                tripLock.unlock();
+        tripLock.unlock();
+
+        waitOnThisFloor = checkCurrentFloor();
+
+        if (hasExecutedTrips || waitOnThisFloor) {
+            openDoor();
+            addPeople();
+            closeDoor();
+        } else if (currentTripFloorNumber > currentFloorNumber.get()) {
+            goUp();
+        } else if (currentTripFloorNumber < currentFloorNumber.get()) {
+            goDown();
+        }
+
+        return true;
+    }
+
+    @Override
+    public void run() {
+
+        unpause();
+
+        while(isMoving) {
+            if (!step()) {
                 disable();
-            } else {
-                hasExecutedTrips = removeExecutedTrips();
-                currentTripFloorNumber = trips.isEmpty()
-                        ? currentFloorNumber.get()
-                        : trips.get(0).getTargetFloorWithIndexNumber();
-
-                tripLock.unlock();
-
-                waitOnThisFloor = checkCurrentFloor();
-
-                if (hasExecutedTrips || waitOnThisFloor) {
-                    openDoor();
-                    addPeople();
-                    closeDoor();
-                } else if(currentTripFloorNumber > currentFloorNumber.get()) {
-                    goUp();
-                } else if(currentTripFloorNumber < currentFloorNumber.get()) {
-                    goDown();
-                }
             }
         }
 
@@ -476,7 +709,7 @@ public class Elevator extends Thread {
         String result = "Elevator " + this.getNumber() +
                 ": Current floor=" + this.currentFloorNumber.get() +
                 ": Free space=" + getFreeCapacity() +
-                "; Passengers size=" + this.getPassengers().size() +
+                "; Passengers size=" + this.numberOfPassengers +
                 "; Number of delivered people=" + this.numberOfDeliveredPeople.get() +
                 ": State=" + this.elevatorState +
                 "; Direction=" + this.getDirectionOfTravel();
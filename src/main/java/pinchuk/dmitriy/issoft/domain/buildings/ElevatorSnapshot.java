@@ -0,0 +1,42 @@
+package pinchuk.dmitriy.issoft.domain.buildings;
+
+import lombok.Getter;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+@Getter
+public class ElevatorSnapshot {
+
+    private final int currentFloorNumber;
+    private final DirectionOfTravel directionOfTravel;
+    private final ElevatorState elevatorState;
+    private final int freeCapacity;
+    private final int numberOfPassengers;
+
+    private ElevatorSnapshot(int currentFloorNumber, DirectionOfTravel directionOfTravel, ElevatorState elevatorState,
+                             int freeCapacity, int numberOfPassengers) {
+        checkNotNull(directionOfTravel);
+        checkNotNull(elevatorState);
+
+        this.currentFloorNumber = currentFloorNumber;
+        this.directionOfTravel = directionOfTravel;
+        this.elevatorState = elevatorState;
+        this.freeCapacity = freeCapacity;
+        this.numberOfPassengers = numberOfPassengers;
+    }
+
+    public static ElevatorSnapshot of(int currentFloorNumber, DirectionOfTravel directionOfTravel, ElevatorState elevatorState,
+                                      int freeCapacity, int numberOfPassengers) {
+        return new ElevatorSnapshot(currentFloorNumber, directionOfTravel, elevatorState, freeCapacity, numberOfPassengers);
+    }
+
+    public boolean isIdle() {
+        return directionOfTravel == DirectionOfTravel.NONE && elevatorState == ElevatorState.STOP;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("(Floor:%d; Direction:%s; State:%s; Free space:%d; Passengers:%d)",
+                currentFloorNumber, directionOfTravel, elevatorState, freeCapacity, numberOfPassengers);
+    }
+}
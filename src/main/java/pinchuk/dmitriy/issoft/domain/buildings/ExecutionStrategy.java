@@ -0,0 +1,85 @@
+package pinchuk.dmitriy.issoft.domain.buildings;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+@Slf4j
+public enum ExecutionStrategy {
+
+    PLATFORM_THREADS {
+        @Override
+        public Thread start(Runnable task, String name) {
+            checkNotNull(task);
+            checkNotNull(name);
+
+            Thread thread = new Thread(task, name);
+            thread.start();
+
+            return thread;
+        }
+    },
+
+    VIRTUAL_THREADS {
+        @Override
+        public Thread start(Runnable task, String name) {
+            checkNotNull(task);
+            checkNotNull(name);
+
+            if (!VirtualThreads.isSupported()) {
+                log.warn("virtual threads are not supported by this JVM, {} is started on a platform thread", name);
+                return PLATFORM_THREADS.start(task, name);
+            }
+
+            return VirtualThreads.start(task, name);
+        }
+    };
+
+    public abstract Thread start(Runnable task, String name);
+
+    public boolean isSupported() {
+        return this != VIRTUAL_THREADS || VirtualThreads.isSupported();
+    }
+
+    private static class VirtualThreads {
+
+        private static final Method OF_VIRTUAL;
+        private static final Method NAME;
+        private static final Method START;
+
+        static {
+            Method ofVirtual = null;
+            Method name = null;
+            Method start = null;
+
+            try {
+                Class<?> builder = Class.forName("java.lang.Thread$Builder");
+                ofVirtual = Thread.class.getMethod("ofVirtual");
+                name = builder.getMethod("name", String.class);
+                start = builder.getMethod("start", Runnable.class);
+            } catch (ReflectiveOperationException exception) {
+                log.debug("virtual threads are unavailable: {}", exception.getMessage());
+            }
+
+            OF_VIRTUAL = ofVirtual;
+            NAME = name;
+            START = start;
+        }
+
+        private static boolean isSupported() {
+            return START != null;
+        }
+
+        private static Thread start(Runnable task, String name) {
+            try {
+                Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), name);
+
+                return (Thread) START.invoke(builder, task);
+            } catch (ReflectiveOperationException exception) {
+                throw new IllegalStateException("virtual thread " + name + " cannot be started", exception);
+            }
+        }
+    }
+}
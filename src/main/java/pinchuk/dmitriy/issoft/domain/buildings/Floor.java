@@ -3,22 +3,27 @@ package pinchuk.dmitriy.issoft.domain.buildings;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import pinchuk.dmitriy.issoft.domain.jfr.LobbyPollEvent;
+import pinchuk.dmitriy.issoft.domain.journal.Journal;
+import pinchuk.dmitriy.issoft.domain.journal.JournalEventType;
 import pinchuk.dmitriy.issoft.domain.util.PeopleSpawn;
 import pinchuk.dmitriy.issoft.domain.people.Person;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 
 @Slf4j
 @Getter
 public class Floor {
 
     public static int NUMBER_OF_FIRST_FLOOR = 0;
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
 
     private final int numberOfFloor;
     private final Building building;
@@ -28,8 +33,10 @@ public class Floor {
     @Setter
     private PeopleSpawn peopleSpawn;
 
-    private Queue<Person> upQueue;
-    private Queue<Person> downQueue;
+    private LobbyQueue upQueue;
+    private LobbyQueue downQueue;
+    private volatile OverflowPolicy overflowPolicy;
+    private volatile LobbySnapshot snapshot;
 
     private final Lock floorLock;
     public static Floor of(int numberOfFloor, Building building) {
@@ -46,41 +53,97 @@ public class Floor {
         this.numberOfFloor = numberOfFloor;
 
         if(building.getNumberOfFloors() != numberOfFloor) {
-            this.upQueue = new LinkedList<>();
+            this.upQueue = new LobbyQueue(DEFAULT_QUEUE_CAPACITY);
         }
 
         if(building.getNumberOfFloors() != NUMBER_OF_FIRST_FLOOR) {
-            this.downQueue = new LinkedList<>();
+            this.downQueue = new LobbyQueue(DEFAULT_QUEUE_CAPACITY);
         }
 
         this.building = building;
         this.floorLock = new ReentrantLock(true);
+        this.overflowPolicy = OverflowPolicy.REJECT;
+        this.snapshot = LobbySnapshot.EMPTY;
     }
 
-    public void addPerson(Person person) {
-        checkNotNull(person);
+    public void setQueueCapacity(int capacity) {
+        checkArgument(capacity > 0);
 
         floorLock.lock();
-        DirectionOfTravel direction = person.getTrip().getDirection();
-        if (direction == DirectionOfTravel.UP) {
+        boolean fits = canHoldQueues(capacity);
+        if (fits) {
+            upQueue.setCapacity(capacity);
+            downQueue.setCapacity(capacity);
+        }
+        floorLock.unlock();
 
-            if(getUpQueue().isEmpty()) {
-                person.pushButton();
-            }
+        checkArgument(fits, "floor %s has more than %s people waiting in one direction", numberOfFloor, capacity);
+    }
 
-            getUpQueue().add(person);
-        } else if (direction == DirectionOfTravel.DOWN) {
+    public boolean canHoldQueues(int capacity) {
+        floorLock.lock();
+        boolean result = upQueue.size() <= capacity && downQueue.size() <= capacity;
+        floorLock.unlock();
 
-            if(getDownQueue().isEmpty()) {
-                person.pushButton();
-            }
+        return result;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = checkNotNull(overflowPolicy);
+    }
 
-            getDownQueue().add(person);
+    public boolean addPerson(Person person) {
+        boolean added = offerPerson(person);
+        checkState(added || overflowPolicy != OverflowPolicy.BLOCK,
+                "lobby of floor %s is full, only its spawner may hold a person back", numberOfFloor);
+
+        return added;
+    }
+
+    // under BLOCK a rejected person stays with the caller, which retries later
+    public boolean offerPerson(Person person) {
+        checkNotNull(person);
+
+        DirectionOfTravel direction = person.getTrip().getDirection();
+        LobbyQueue queue = direction == DirectionOfTravel.UP ? upQueue : downQueue;
+
+        floorLock.lock();
+        if (queue.isEmpty()) {
+            person.pushButton();
         }
 
+        boolean added = queue.offer(person);
+        if (added) {
+            publishQueueDepths();
+        }
         floorLock.unlock();
 
-        log.info("person has been added to {}", person);
+        if (!added) {
+            overflow(person);
+            return false;
+        }
+
+        log.debug("person has been added to {}", person);
+        return true;
+    }
+
+    private void overflow(Person person) {
+        if (overflowPolicy == OverflowPolicy.REJECT) {
+            building.getStorage().incrementNumberOfBalkedPeople(numberOfFloor);
+            log.debug("person has balked {}", person);
+        } else if (overflowPolicy == OverflowPolicy.STAIRS) {
+            building.getStorage().incrementNumberOfPeopleOnStairs(numberOfFloor);
+            log.debug("person has taken the stairs {}", person);
+        }
+
+        if (overflowPolicy != OverflowPolicy.BLOCK) {
+            building.getPersonPool().release(person);
+        }
+    }
+
+    // called under floorLock
+    private void publishQueueDepths() {
+        snapshot = LobbySnapshot.of(upQueue.size(), downQueue.size());
     }
 
     public int getNumberOfPeople(DirectionOfTravel direction) {
@@ -95,6 +158,8 @@ public class Floor {
     }
 
     public void callElevator(DirectionOfTravel direction) {
+        building.getJournal().append(JournalEventType.HALL_CALL, building.getClock().currentTimeMillis(),
+                Journal.NO_ELEVATOR, numberOfFloor, direction.ordinal(), Journal.NO_PERSON);
         this.building.getController().addTrip(Trip.of(numberOfFloor, direction));
     }
 
@@ -118,6 +183,8 @@ public class Floor {
     }
 
     public Person pollFirstPerson(DirectionOfTravel direction) {
+        LobbyPollEvent event = new LobbyPollEvent();
+        event.begin();
 
         Person person = null;
 
@@ -125,16 +192,50 @@ public class Floor {
         direction = getDirectionOfTravel(direction);
         if (getFirstPerson(direction) != null) {
             person = direction.equals(DirectionOfTravel.UP) ? upQueue.poll() : downQueue.poll();
+            publishQueueDepths();
+            event.commit(building.getId(), numberOfFloor, direction.name(), 1, snapshot.getNumberOfPeopleGoing(direction));
 
             if (getFirstPerson(direction) != null
                     && building.getController().canCallElevator(getFirstPerson(direction).getTrip())) {
                 callElevator(direction);
             }
 
-            log.info("person has been polled {}", person);
+            log.debug("person has been polled {}", person);
         }
         floorLock.unlock();
 
         return person;
     }
+
+    public List<Person> pollPeople(DirectionOfTravel direction, int freeCapacity) {
+        LobbyPollEvent event = new LobbyPollEvent();
+        event.begin();
+
+        List<Person> people = new ArrayList<>();
+
+        floorLock.lock();
+        direction = getDirectionOfTravel(direction);
+        LobbyQueue queue = direction.equals(DirectionOfTravel.UP) ? upQueue : downQueue;
+
+        while (queue.peek() != null && queue.peek().getWeight() <= freeCapacity) {
+            Person person = queue.poll();
+            freeCapacity -= person.getWeight();
+            people.add(person);
+        }
+
+        if (!people.isEmpty()) {
+            publishQueueDepths();
+            event.commit(building.getId(), numberOfFloor, direction.name(), people.size(), queue.size());
+        }
+
+        if (!people.isEmpty() && queue.peek() != null
+                && building.getController().canCallElevator(queue.peek().getTrip())) {
+            callElevator(direction);
+        }
+        floorLock.unlock();
+
+        log.debug("{} people have been polled", people.size());
+
+        return people;
+    }
 }
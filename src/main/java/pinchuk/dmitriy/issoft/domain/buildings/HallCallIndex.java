@@ -0,0 +1,172 @@
+package pinchuk.dmitriy.issoft.domain.buildings;
+
+import java.util.AbstractCollection;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public class HallCallIndex extends AbstractCollection<Trip> {
+
+    public static final int NO_CALL = -1;
+
+    private final BitSet upCalls;
+    private final BitSet downCalls;
+    private int size;
+    private int cursor;
+
+    public HallCallIndex() {
+        this.upCalls = new BitSet();
+        this.downCalls = new BitSet();
+    }
+
+    @Override
+    public boolean add(Trip trip) {
+        checkNotNull(trip);
+        checkArgument(trip.getDirection() != DirectionOfTravel.NONE);
+
+        BitSet calls = callsFor(trip.getDirection());
+        int floor = trip.getTargetFloorWithIndexNumber();
+
+        if (calls.get(floor)) {
+            return false;
+        }
+
+        calls.set(floor);
+        size++;
+
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!contains(o)) {
+            return false;
+        }
+
+        Trip trip = (Trip) o;
+        callsFor(trip.getDirection()).clear(trip.getTargetFloorWithIndexNumber());
+        size--;
+
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Trip)) {
+            return false;
+        }
+
+        Trip trip = (Trip) o;
+
+        return trip.getDirection() != DirectionOfTravel.NONE
+                && callsFor(trip.getDirection()).get(trip.getTargetFloorWithIndexNumber());
+    }
+
+    public boolean hasCall(int floor, DirectionOfTravel direction) {
+        checkArgument(direction != DirectionOfTravel.NONE);
+
+        return floor >= Floor.NUMBER_OF_FIRST_FLOOR && callsFor(direction).get(floor);
+    }
+
+    public int nearestCallAbove(int floor, DirectionOfTravel direction) {
+        checkArgument(direction != DirectionOfTravel.NONE);
+
+        return callsFor(direction).nextSetBit(Math.max(floor + 1, Floor.NUMBER_OF_FIRST_FLOOR));
+    }
+
+    public int nearestCallBelow(int floor, DirectionOfTravel direction) {
+        checkArgument(direction != DirectionOfTravel.NONE);
+
+        return floor <= Floor.NUMBER_OF_FIRST_FLOOR ? NO_CALL : callsFor(direction).previousSetBit(floor - 1);
+    }
+
+    public Trip poll() {
+        if (size == 0) {
+            return null;
+        }
+
+        int position = nextPosition(cursor);
+        if (position == NO_CALL) {
+            position = nextPosition(0);
+        }
+
+        Trip trip = tripAt(position);
+        remove(trip);
+        cursor = position + 1;
+
+        return trip;
+    }
+
+    @Override
+    public void clear() {
+        upCalls.clear();
+        downCalls.clear();
+        size = 0;
+        cursor = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Trip> iterator() {
+        return new Iterator<>() {
+
+            private int next = nextPosition(0);
+            private Trip last;
+
+            @Override
+            public boolean hasNext() {
+                return next != NO_CALL;
+            }
+
+            @Override
+            public Trip next() {
+                if (next == NO_CALL) {
+                    throw new NoSuchElementException();
+                }
+
+                last = tripAt(next);
+                next = nextPosition(next + 1);
+
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+
+                HallCallIndex.this.remove(last);
+                last = null;
+            }
+        };
+    }
+
+    private BitSet callsFor(DirectionOfTravel direction) {
+        return direction == DirectionOfTravel.UP ? upCalls : downCalls;
+    }
+
+    // positions interleave both directions: floor * 2 for UP, floor * 2 + 1 for DOWN
+    private int nextPosition(int fromPosition) {
+        int floor = fromPosition >> 1;
+        int upFloor = upCalls.nextSetBit((fromPosition & 1) == 0 ? floor : floor + 1);
+        int downFloor = downCalls.nextSetBit(floor);
+
+        int upPosition = upFloor == NO_CALL ? Integer.MAX_VALUE : upFloor * 2;
+        int downPosition = downFloor == NO_CALL ? Integer.MAX_VALUE : downFloor * 2 + 1;
+        int position = Math.min(upPosition, downPosition);
+
+        return position == Integer.MAX_VALUE ? NO_CALL : position;
+    }
+
+    private Trip tripAt(int position) {
+        return Trip.of(position >> 1, (position & 1) == 0 ? DirectionOfTravel.UP : DirectionOfTravel.DOWN);
+    }
+}
@@ -0,0 +1,116 @@
+package pinchuk.dmitriy.issoft.domain.buildings;
+
+import pinchuk.dmitriy.issoft.domain.people.Person;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public class LobbyQueue extends AbstractQueue<Person> {
+
+    private Person[] people;
+    private int head;
+    private int size;
+
+    public LobbyQueue(int capacity) {
+        checkArgument(capacity > 0);
+
+        this.people = new Person[capacity];
+    }
+
+    @Override
+    public boolean offer(Person person) {
+        checkNotNull(person);
+
+        if (size == people.length) {
+            return false;
+        }
+
+        people[indexOf(size)] = person;
+        size++;
+
+        return true;
+    }
+
+    @Override
+    public Person poll() {
+        if (size == 0) {
+            return null;
+        }
+
+        Person person = people[head];
+        people[head] = null;
+        head = indexOf(1);
+        size--;
+
+        return person;
+    }
+
+    @Override
+    public Person peek() {
+        return size == 0 ? null : people[head];
+    }
+
+    public boolean isFull() {
+        return size == people.length;
+    }
+
+    public int getCapacity() {
+        return people.length;
+    }
+
+    public void setCapacity(int capacity) {
+        checkArgument(capacity > 0);
+        checkArgument(capacity >= size);
+
+        Person[] resized = new Person[capacity];
+        for (int i = 0; i < size; i++) {
+            resized[i] = people[indexOf(i)];
+        }
+
+        people = resized;
+        head = 0;
+    }
+
+    @Override
+    public void clear() {
+        while (size > 0) {
+            poll();
+        }
+        head = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Person> iterator() {
+        return new Iterator<>() {
+
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Person next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                return people[indexOf(next++)];
+            }
+        };
+    }
+
+    private int indexOf(int offset) {
+        return (head + offset) % people.length;
+    }
+}
@@ -0,0 +1,39 @@
+package pinchuk.dmitriy.issoft.domain.buildings;
+
+import lombok.Getter;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+@Getter
+public class LobbySnapshot {
+
+    public static final LobbySnapshot EMPTY = new LobbySnapshot(0, 0);
+
+    private final int numberOfPeopleGoingUp;
+    private final int numberOfPeopleGoingDown;
+
+    private LobbySnapshot(int numberOfPeopleGoingUp, int numberOfPeopleGoingDown) {
+        checkArgument(numberOfPeopleGoingUp >= 0);
+        checkArgument(numberOfPeopleGoingDown >= 0);
+
+        this.numberOfPeopleGoingUp = numberOfPeopleGoingUp;
+        this.numberOfPeopleGoingDown = numberOfPeopleGoingDown;
+    }
+
+    public static LobbySnapshot of(int numberOfPeopleGoingUp, int numberOfPeopleGoingDown) {
+        return new LobbySnapshot(numberOfPeopleGoingUp, numberOfPeopleGoingDown);
+    }
+
+    public int getNumberOfWaitingPeople() {
+        return numberOfPeopleGoingUp + numberOfPeopleGoingDown;
+    }
+
+    public int getNumberOfPeopleGoing(DirectionOfTravel direction) {
+        return direction == DirectionOfTravel.UP ? numberOfPeopleGoingUp : numberOfPeopleGoingDown;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("(Up:%d; Down:%d)", numberOfPeopleGoingUp, numberOfPeopleGoingDown);
+    }
+}
@@ -0,0 +1,7 @@
+package pinchuk.dmitriy.issoft.domain.buildings;
+
+public enum OverflowPolicy {
+    REJECT,
+    BLOCK,
+    STAIRS
+}
@@ -0,0 +1,150 @@
+package pinchuk.dmitriy.issoft.domain.buildings;
+
+import pinchuk.dmitriy.issoft.domain.people.Person;
+
+import java.util.*;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public class PassengerManifest extends AbstractCollection<Person> {
+
+    public static final int NO_DESTINATION = -1;
+
+    private final List<List<Person>> passengersByDestination;
+    private final BitSet destinations;
+    private int size;
+
+    public PassengerManifest() {
+        this.passengersByDestination = new ArrayList<>();
+        this.destinations = new BitSet();
+    }
+
+    @Override
+    public boolean add(Person person) {
+        checkNotNull(person);
+
+        int destination = person.getNeededFloor();
+        while (passengersByDestination.size() <= destination) {
+            passengersByDestination.add(new ArrayList<>());
+        }
+
+        passengersByDestination.get(destination).add(person);
+        destinations.set(destination);
+        size++;
+
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof Person)) {
+            return false;
+        }
+
+        int destination = ((Person) o).getNeededFloor();
+        if (!destinations.get(destination)) {
+            return false;
+        }
+
+        List<Person> bucket = passengersByDestination.get(destination);
+        if (!bucket.remove(o)) {
+            return false;
+        }
+
+        if (bucket.isEmpty()) {
+            destinations.clear(destination);
+        }
+        size--;
+
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Person)) {
+            return false;
+        }
+
+        int destination = ((Person) o).getNeededFloor();
+
+        return destinations.get(destination) && passengersByDestination.get(destination).contains(o);
+    }
+
+    public List<Person> drainPassengersTo(int floor) {
+        if (floor < Floor.NUMBER_OF_FIRST_FLOOR || !destinations.get(floor)) {
+            return Collections.emptyList();
+        }
+
+        List<Person> bucket = passengersByDestination.get(floor);
+        List<Person> drained = new ArrayList<>(bucket);
+
+        bucket.clear();
+        destinations.clear(floor);
+        size -= drained.size();
+
+        return drained;
+    }
+
+    public boolean hasPassengersTo(int floor) {
+        return floor >= Floor.NUMBER_OF_FIRST_FLOOR && destinations.get(floor);
+    }
+
+    @Override
+    public void clear() {
+        passengersByDestination.forEach(List::clear);
+        destinations.clear();
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Person> iterator() {
+        return new Iterator<>() {
+
+            private int destination = destinations.nextSetBit(0);
+            private Iterator<Person> current = destination == NO_DESTINATION
+                    ? Collections.emptyIterator() : passengersByDestination.get(destination).iterator();
+            private int lastDestination = NO_DESTINATION;
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && destination != NO_DESTINATION) {
+                    destination = destinations.nextSetBit(destination + 1);
+                    current = destination == NO_DESTINATION
+                            ? Collections.emptyIterator() : passengersByDestination.get(destination).iterator();
+                }
+
+                return current.hasNext();
+            }
+
+            @Override
+            public Person next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                lastDestination = destination;
+
+                return current.next();
+            }
+
+            @Override
+            public void remove() {
+                if (lastDestination == NO_DESTINATION) {
+                    throw new IllegalStateException();
+                }
+
+                current.remove();
+                size--;
+                if (passengersByDestination.get(lastDestination).isEmpty()) {
+                    destinations.clear(lastDestination);
+                }
+                lastDestination = NO_DESTINATION;
+            }
+        };
+    }
+}
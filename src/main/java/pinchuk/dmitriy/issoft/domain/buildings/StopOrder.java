@@ -0,0 +1,6 @@
+package pinchuk.dmitriy.issoft.domain.buildings;
+
+public enum StopOrder {
+    FIFO,
+    LOOK
+}
@@ -0,0 +1,235 @@
+package pinchuk.dmitriy.issoft.domain.buildings;
+
+import java.util.*;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public class StopSchedule extends AbstractCollection<Trip> {
+
+    public static final int NO_STOP = -1;
+
+    private final StopOrder order;
+    private final BitSet upStops;
+    private final BitSet downStops;
+    private final Set<Trip> stopsInArrivalOrder;
+    private int size;
+
+    public StopSchedule() {
+        this(StopOrder.LOOK);
+    }
+
+    public StopSchedule(StopOrder order) {
+        this.order = checkNotNull(order);
+        this.upStops = new BitSet();
+        this.downStops = new BitSet();
+        this.stopsInArrivalOrder = order == StopOrder.FIFO ? new LinkedHashSet<>() : Collections.emptySet();
+    }
+
+    public StopOrder getOrder() {
+        return order;
+    }
+
+    @Override
+    public boolean add(Trip trip) {
+        checkNotNull(trip);
+        checkArgument(trip.getDirection() != DirectionOfTravel.NONE);
+
+        BitSet stops = stopsFor(trip.getDirection());
+        int floor = trip.getTargetFloorWithIndexNumber();
+
+        if (stops.get(floor)) {
+            return false;
+        }
+
+        stops.set(floor);
+        size++;
+        if (order == StopOrder.FIFO) {
+            stopsInArrivalOrder.add(trip);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!contains(o)) {
+            return false;
+        }
+
+        Trip trip = (Trip) o;
+        stopsFor(trip.getDirection()).clear(trip.getTargetFloorWithIndexNumber());
+        stopsInArrivalOrder.remove(trip);
+        size--;
+
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Trip)) {
+            return false;
+        }
+
+        Trip trip = (Trip) o;
+
+        return trip.getDirection() != DirectionOfTravel.NONE
+                && stopsFor(trip.getDirection()).get(trip.getTargetFloorWithIndexNumber());
+    }
+
+    public List<Trip> removeStopsAt(int floor) {
+        List<Trip> removed = new ArrayList<>(2);
+
+        if (floor < Floor.NUMBER_OF_FIRST_FLOOR) {
+            return removed;
+        }
+
+        if (upStops.get(floor)) {
+            upStops.clear(floor);
+            removed.add(Trip.of(floor, DirectionOfTravel.UP));
+        }
+        if (downStops.get(floor)) {
+            downStops.clear(floor);
+            removed.add(Trip.of(floor, DirectionOfTravel.DOWN));
+        }
+        size -= removed.size();
+        if (order == StopOrder.FIFO) {
+            stopsInArrivalOrder.removeAll(removed);
+        }
+
+        return removed;
+    }
+
+    public Trip nextStop(int currentFloor, DirectionOfTravel direction) {
+        checkNotNull(direction);
+
+        if (size == 0) {
+            return null;
+        }
+
+        if (order == StopOrder.FIFO) {
+            return stopsInArrivalOrder.iterator().next();
+        }
+
+        if (direction == DirectionOfTravel.DOWN) {
+            Trip stop = sweepDown(currentFloor);
+            return stop != null ? stop : sweepUp(currentFloor);
+        }
+
+        Trip stop = sweepUp(currentFloor);
+        return stop != null ? stop : sweepDown(currentFloor);
+    }
+
+    public int countStopsBetween(int fromFloor, int toFloor) {
+        int lowerFloor = Math.min(fromFloor, toFloor);
+        int upperFloor = Math.max(fromFloor, toFloor);
+        int stops = 0;
+
+        int upFloor = nextSetBit(upStops, lowerFloor + 1);
+        int downFloor = nextSetBit(downStops, lowerFloor + 1);
+
+        while (true) {
+            int floor = upFloor == NO_STOP ? downFloor
+                    : downFloor == NO_STOP ? upFloor : Math.min(upFloor, downFloor);
+
+            if (floor == NO_STOP || floor >= upperFloor) {
+                return stops;
+            }
+
+            stops++;
+            if (upFloor == floor) {
+                upFloor = nextSetBit(upStops, floor + 1);
+            }
+            if (downFloor == floor) {
+                downFloor = nextSetBit(downStops, floor + 1);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        upStops.clear();
+        downStops.clear();
+        stopsInArrivalOrder.clear();
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Trip> iterator() {
+        List<Trip> trips = new ArrayList<>(size);
+
+        upStops.stream().forEach(i -> trips.add(Trip.of(i, DirectionOfTravel.UP)));
+        downStops.stream().forEach(i -> trips.add(Trip.of(i, DirectionOfTravel.DOWN)));
+
+        Iterator<Trip> iterator = trips.iterator();
+
+        return new Iterator<>() {
+
+            private Trip last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Trip next() {
+                last = iterator.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+
+                StopSchedule.this.remove(last);
+                last = null;
+            }
+        };
+    }
+
+    // up stops ahead in floor order, then the highest down stop as the turning point
+    private Trip sweepUp(int currentFloor) {
+        int floor = nextSetBit(upStops, currentFloor);
+        if (floor != NO_STOP) {
+            return Trip.of(floor, DirectionOfTravel.UP);
+        }
+
+        floor = downStops.length() - 1;
+        if (floor >= Math.max(currentFloor, Floor.NUMBER_OF_FIRST_FLOOR)) {
+            return Trip.of(floor, DirectionOfTravel.DOWN);
+        }
+
+        return null;
+    }
+
+    // down stops ahead in floor order, then the lowest up stop as the turning point
+    private Trip sweepDown(int currentFloor) {
+        int floor = currentFloor < Floor.NUMBER_OF_FIRST_FLOOR ? NO_STOP : downStops.previousSetBit(currentFloor);
+        if (floor != NO_STOP) {
+            return Trip.of(floor, DirectionOfTravel.DOWN);
+        }
+
+        floor = upStops.nextSetBit(Floor.NUMBER_OF_FIRST_FLOOR);
+        if (floor != NO_STOP && floor <= currentFloor) {
+            return Trip.of(floor, DirectionOfTravel.UP);
+        }
+
+        return null;
+    }
+
+    private BitSet stopsFor(DirectionOfTravel direction) {
+        return direction == DirectionOfTravel.UP ? upStops : downStops;
+    }
+
+    private static int nextSetBit(BitSet stops, int fromFloor) {
+        return stops.nextSetBit(Math.max(fromFloor, Floor.NUMBER_OF_FIRST_FLOOR));
+    }
+}
@@ -3,33 +3,62 @@ package pinchuk.dmitriy.issoft.domain.buildings;
 import lombok.Getter;
 import lombok.EqualsAndHashCode;
 
+import java.util.Arrays;
+
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 
 @Getter
-@EqualsAndHashCode
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class Trip {
 
+    private static final int DIRECTION_BITS = 2;
+    private static final int DIRECTION_MASK = (1 << DIRECTION_BITS) - 1;
+    private static final int MAX_INTERNED_FLOOR = 1 << 16;
+    private static final DirectionOfTravel[] DIRECTIONS = DirectionOfTravel.values();
+
+    private static volatile Trip[] internedTrips = new Trip[0];
+
     private final int targetFloorWithIndexNumber;
     private final DirectionOfTravel direction;
+    @EqualsAndHashCode.Include
+    private final int code;
 
     private Trip(int targetFloorWithIndexNumber, DirectionOfTravel direction) {
-        checkArgument(targetFloorWithIndexNumber >= Floor.NUMBER_OF_FIRST_FLOOR);
-        checkNotNull(direction);
-
         this.targetFloorWithIndexNumber = targetFloorWithIndexNumber;
         this.direction = direction;
+        this.code = encode(targetFloorWithIndexNumber, direction);
     }
 
     public static Trip of(int targetFloorWithIndexNumber, DirectionOfTravel direction) {
-        return new Trip(targetFloorWithIndexNumber, direction);
+        checkArgument(targetFloorWithIndexNumber >= Floor.NUMBER_OF_FIRST_FLOOR);
+        checkNotNull(direction);
+
+        if (targetFloorWithIndexNumber >= MAX_INTERNED_FLOOR) {
+            return new Trip(targetFloorWithIndexNumber, direction);
+        }
+
+        int code = encode(targetFloorWithIndexNumber, direction);
+        Trip[] trips = internedTrips;
+
+        return code < trips.length ? trips[code] : intern(code);
+    }
+
+    public static Trip ofCode(int code) {
+        checkArgument(code >= 0 && (code & DIRECTION_MASK) < DIRECTIONS.length);
+
+        return of(code >>> DIRECTION_BITS, DIRECTIONS[code & DIRECTION_MASK]);
+    }
+
+    public static int encode(int targetFloorWithIndexNumber, DirectionOfTravel direction) {
+        return targetFloorWithIndexNumber << DIRECTION_BITS | direction.ordinal();
     }
 
     public static Trip of(Floor targetFloorWithIndex, DirectionOfTravel direction) {
         checkNotNull(targetFloorWithIndex);
 
-        return new Trip(targetFloorWithIndex.getNumberOfFloor(), direction);
+        return of(targetFloorWithIndex.getNumberOfFloor(), direction);
     }
 
     public static Trip of(int targetFloorWithIndexNumber, int startFloorNumber) {
@@ -37,7 +66,7 @@ public class Trip {
 
         DirectionOfTravel direction = resolveDirection(targetFloorWithIndexNumber, startFloorNumber);
 
-        return new Trip(targetFloorWithIndexNumber, direction);
+        return of(targetFloorWithIndexNumber, direction);
     }
 
     public static Trip of(Floor targetFloorWithIndex, Floor startFloor) {
@@ -45,7 +74,7 @@ public class Trip {
 
         DirectionOfTravel direction = resolveDirection(targetFloorWithIndex.getNumberOfFloor(), startFloor.getNumberOfFloor());
 
-        return new Trip(targetFloorWithIndex.getNumberOfFloor(), direction);
+        return of(targetFloorWithIndex.getNumberOfFloor(), direction);
     }
 
     public static Trip of(int targetFloorWithIndexNumber, Floor startFloor) {
@@ -53,7 +82,7 @@ public class Trip {
 
         DirectionOfTravel direction = resolveDirection(targetFloorWithIndexNumber, startFloor.getNumberOfFloor());
 
-        return new Trip(targetFloorWithIndexNumber, direction);
+        return of(targetFloorWithIndexNumber, direction);
     }
 
     public static Trip of(Floor targetFloorWithIndex, int startFloorNumber) {
@@ -61,7 +90,25 @@ public class Trip {
 
         DirectionOfTravel direction = resolveDirection(targetFloorWithIndex.getNumberOfFloor(), startFloorNumber);
 
-        return new Trip(targetFloorWithIndex.getNumberOfFloor(), direction);
+        return of(targetFloorWithIndex.getNumberOfFloor(), direction);
+    }
+
+    // existing entries are copied, never replaced
+    private static synchronized Trip intern(int code) {
+        Trip[] trips = internedTrips;
+
+        if (code >= trips.length) {
+            Trip[] grown = Arrays.copyOf(trips, Math.max(code + 1, trips.length * 2));
+            for (int i = trips.length; i < grown.length; i++) {
+                if ((i & DIRECTION_MASK) < DIRECTIONS.length) {
+                    grown[i] = new Trip(i >>> DIRECTION_BITS, DIRECTIONS[i & DIRECTION_MASK]);
+                }
+            }
+            internedTrips = grown;
+            trips = grown;
+        }
+
+        return trips[code];
     }
 
     private static DirectionOfTravel resolveDirection(int targetFloorWithIndexNumber, int startFloorNumber) {
@@ -0,0 +1,19 @@
+package pinchuk.dmitriy.issoft.domain.dispatch;
+
+import pinchuk.dmitriy.issoft.domain.buildings.Elevator;
+import pinchuk.dmitriy.issoft.domain.buildings.Trip;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface DispatchStrategy {
+
+    Optional<Elevator> selectElevator(Trip trip, List<Elevator> elevators);
+
+    int countCandidates(Trip trip, List<Elevator> elevators);
+
+    // keeps an assigned call pending so that one more car is sent to a crowded floor
+    default boolean needsAnotherElevator(Trip trip, List<Elevator> elevators) {
+        return false;
+    }
+}
@@ -0,0 +1,134 @@
+package pinchuk.dmitriy.issoft.domain.dispatch;
+
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.DirectionOfTravel;
+import pinchuk.dmitriy.issoft.domain.buildings.Elevator;
+import pinchuk.dmitriy.issoft.domain.buildings.ElevatorSnapshot;
+import pinchuk.dmitriy.issoft.domain.buildings.ElevatorState;
+import pinchuk.dmitriy.issoft.domain.buildings.Trip;
+import pinchuk.dmitriy.issoft.domain.people.Person;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public class EstimatedTimeOfArrivalDispatchStrategy implements DispatchStrategy {
+
+    private static final long UNREACHABLE = Long.MAX_VALUE;
+    private static final int AVERAGE_WEIGHT = (Person.MIN_WEIGHT + Person.MAX_WEIGHT) / 2;
+
+    @Override
+    public Optional<Elevator> selectElevator(Trip trip, List<Elevator> elevators) {
+        checkNotNull(trip);
+        checkNotNull(elevators);
+
+        Elevator bestElevator = null;
+        long bestTimeOfArrival = UNREACHABLE;
+
+        for (Elevator elevator : elevators) {
+            long timeOfArrival = estimateTimeOfArrival(elevator, trip);
+
+            if (timeOfArrival < bestTimeOfArrival) {
+                bestElevator = elevator;
+                bestTimeOfArrival = timeOfArrival;
+            }
+        }
+
+        return Optional.ofNullable(bestElevator);
+    }
+
+    @Override
+    public int countCandidates(Trip trip, List<Elevator> elevators) {
+        checkNotNull(trip);
+        checkNotNull(elevators);
+
+        return (int) elevators.stream()
+                .filter(i -> estimateTimeOfArrival(i, trip) != UNREACHABLE)
+                .count();
+    }
+
+    @Override
+    public boolean needsAnotherElevator(Trip trip, List<Elevator> elevators) {
+        checkNotNull(trip);
+        checkNotNull(elevators);
+
+        List<Elevator> assignedElevators = elevators.stream()
+                .filter(i -> i.hasTrip(trip))
+                .collect(Collectors.toList());
+
+        if (assignedElevators.isEmpty()) {
+            return false;
+        }
+
+        long assignedCapacity = assignedElevators.stream()
+                .mapToLong(i -> i.getSnapshot().getFreeCapacity())
+                .sum();
+
+        return getWaitingWeight(assignedElevators.get(0).getBuilding(), trip.getTargetFloorWithIndexNumber(), trip.getDirection())
+                > assignedCapacity;
+    }
+
+    public long estimateTimeOfArrival(Elevator elevator, Trip trip) {
+        checkNotNull(elevator);
+        checkNotNull(trip);
+
+        ElevatorSnapshot snapshot = elevator.getSnapshot();
+        ElevatorState state = snapshot.getElevatorState();
+        DirectionOfTravel direction = snapshot.getDirectionOfTravel();
+        int currentFloor = snapshot.getCurrentFloorNumber();
+        int targetFloor = trip.getTargetFloorWithIndexNumber();
+        long travelTime = (long) Math.abs(targetFloor - currentFloor) * elevator.getTravelSpeed();
+
+        if (state == ElevatorState.END || elevator.hasTrip(trip)) {
+            return UNREACHABLE;
+        }
+
+        if (direction == DirectionOfTravel.NONE) {
+            return state == ElevatorState.STOP ? travelTime : UNREACHABLE;
+        }
+
+        if (direction != trip.getDirection()
+                || !isAhead(direction, state, currentFloor, targetFloor)
+                || !canTakeWaitingPeople(elevator, snapshot, trip)) {
+            return UNREACHABLE;
+        }
+
+        long stopTime = 2L * elevator.getDoorSpeed() + elevator.getBoardingTime();
+        // the extra stop also holds up the car and everyone already on board
+        long insertedStopTime = stopTime * (1 + snapshot.getNumberOfPassengers());
+
+        return travelTime + stopTime * elevator.getNumberOfStopsBetween(currentFloor, targetFloor) + insertedStopTime;
+    }
+
+    // people waiting on the way in the same direction board first and take their share of the free capacity
+    private boolean canTakeWaitingPeople(Elevator elevator, ElevatorSnapshot snapshot, Trip trip) {
+        Building building = elevator.getBuilding();
+        int currentFloor = snapshot.getCurrentFloorNumber();
+        int targetFloor = trip.getTargetFloorWithIndexNumber();
+        long freeCapacity = snapshot.getFreeCapacity();
+
+        for (int i = Math.min(currentFloor, targetFloor) + 1; i < Math.max(currentFloor, targetFloor); i++) {
+            freeCapacity -= getWaitingWeight(building, i, trip.getDirection());
+        }
+
+        long neededCapacity = Math.min(getWaitingWeight(building, targetFloor, trip.getDirection()), elevator.getLiftingCapacity());
+
+        return freeCapacity >= Math.max(neededCapacity, Person.MAX_WEIGHT);
+    }
+
+    private long getWaitingWeight(Building building, int floorNumber, DirectionOfTravel direction) {
+        int waitingPeople = building.getFloorWithIndex(floorNumber).getSnapshot().getNumberOfPeopleGoing(direction);
+
+        return (long) waitingPeople * AVERAGE_WEIGHT;
+    }
+
+    private boolean isAhead(DirectionOfTravel direction, ElevatorState state, int currentFloor, int targetFloor) {
+        if (targetFloor == currentFloor) {
+            return state == ElevatorState.MOVE;
+        }
+
+        return direction == DirectionOfTravel.UP ? targetFloor > currentFloor : targetFloor < currentFloor;
+    }
+}
@@ -0,0 +1,44 @@
+package pinchuk.dmitriy.issoft.domain.dispatch;
+
+import pinchuk.dmitriy.issoft.domain.buildings.Elevator;
+import pinchuk.dmitriy.issoft.domain.buildings.ElevatorSnapshot;
+import pinchuk.dmitriy.issoft.domain.buildings.Trip;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public class NearestIdleDispatchStrategy implements DispatchStrategy {
+
+    @Override
+    public Optional<Elevator> selectElevator(Trip trip, List<Elevator> elevators) {
+        checkNotNull(trip);
+        checkNotNull(elevators);
+
+        Elevator nearestElevator = null;
+        int nearestDistance = Integer.MAX_VALUE;
+
+        for (Elevator elevator : elevators) {
+            ElevatorSnapshot snapshot = elevator.getSnapshot();
+            int distance = Math.abs(snapshot.getCurrentFloorNumber() - trip.getTargetFloorWithIndexNumber());
+
+            if (snapshot.isIdle() && distance < nearestDistance) {
+                nearestElevator = elevator;
+                nearestDistance = distance;
+            }
+        }
+
+        return Optional.ofNullable(nearestElevator);
+    }
+
+    @Override
+    public int countCandidates(Trip trip, List<Elevator> elevators) {
+        checkNotNull(trip);
+        checkNotNull(elevators);
+
+        return (int) elevators.stream()
+                .filter(i -> i.getSnapshot().isIdle())
+                .count();
+    }
+}
@@ -0,0 +1,42 @@
+package pinchuk.dmitriy.issoft.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("pinchuk.dmitriy.issoft.Dispatch")
+@Label("Dispatch")
+@Description("The controller assigning one hall call")
+@Category({"Elevators", "Controller"})
+@Enabled(false)
+public class DispatchEvent extends Event {
+
+    public static final int NO_ELEVATOR = -1;
+
+    @Label("Floor")
+    private int floor;
+
+    @Label("Direction")
+    private String direction;
+
+    @Label("Candidates")
+    @Description("Number of elevators the dispatch strategy considered eligible for the call")
+    private int candidates;
+
+    @Label("Chosen Elevator")
+    @Description("Number of the elevator the call was assigned to, or -1 when it was put back in the queue")
+    private int chosenElevator;
+
+    public void commit(int floor, String direction, int candidates, int chosenElevator) {
+        if (shouldCommit()) {
+            this.floor = floor;
+            this.direction = direction;
+            this.candidates = candidates;
+            this.chosenElevator = chosenElevator;
+            commit();
+        }
+    }
+}
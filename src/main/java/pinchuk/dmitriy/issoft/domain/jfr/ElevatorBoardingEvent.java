@@ -0,0 +1,42 @@
+package pinchuk.dmitriy.issoft.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("pinchuk.dmitriy.issoft.ElevatorBoarding")
+@Label("Elevator Boarding")
+@Description("A batch of people boarding an elevator, including lock waits and the boarding time")
+@Category({"Elevators", "Elevator"})
+@Enabled(false)
+public class ElevatorBoardingEvent extends Event {
+
+    @Label("Building")
+    private int building;
+
+    @Label("Elevator")
+    private int elevator;
+
+    @Label("Floor")
+    private int floor;
+
+    @Label("People")
+    private int people;
+
+    @Label("Weight")
+    private int weight;
+
+    public void commit(int building, int elevator, int floor, int people, int weight) {
+        if (shouldCommit()) {
+            this.building = building;
+            this.elevator = elevator;
+            this.floor = floor;
+            this.people = people;
+            this.weight = weight;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package pinchuk.dmitriy.issoft.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("pinchuk.dmitriy.issoft.ElevatorDoor")
+@Label("Elevator Door")
+@Description("An elevator opening or closing its door, including the door dwell")
+@Category({"Elevators", "Elevator"})
+@Enabled(false)
+public class ElevatorDoorEvent extends Event {
+
+    @Label("Building")
+    private int building;
+
+    @Label("Elevator")
+    private int elevator;
+
+    @Label("Floor")
+    private int floor;
+
+    @Label("Opening")
+    private boolean opening;
+
+    public void commit(int building, int elevator, int floor, boolean opening) {
+        if (shouldCommit()) {
+            this.building = building;
+            this.elevator = elevator;
+            this.floor = floor;
+            this.opening = opening;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package pinchuk.dmitriy.issoft.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("pinchuk.dmitriy.issoft.ElevatorTravel")
+@Label("Elevator Travel")
+@Description("An elevator moving by one floor, including the travel time")
+@Category({"Elevators", "Elevator"})
+@Enabled(false)
+public class ElevatorTravelEvent extends Event {
+
+    @Label("Building")
+    private int building;
+
+    @Label("Elevator")
+    private int elevator;
+
+    @Label("From Floor")
+    private int fromFloor;
+
+    @Label("To Floor")
+    private int toFloor;
+
+    @Label("Direction")
+    private String direction;
+
+    public void commit(int building, int elevator, int fromFloor, int toFloor, String direction) {
+        if (shouldCommit()) {
+            this.building = building;
+            this.elevator = elevator;
+            this.fromFloor = fromFloor;
+            this.toFloor = toFloor;
+            this.direction = direction;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package pinchuk.dmitriy.issoft.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("pinchuk.dmitriy.issoft.LobbyPoll")
+@Label("Lobby Poll")
+@Description("People taken from a lobby queue, including the wait for the floor lock")
+@Category({"Elevators", "Floor"})
+@Enabled(false)
+public class LobbyPollEvent extends Event {
+
+    @Label("Building")
+    private int building;
+
+    @Label("Floor")
+    private int floor;
+
+    @Label("Direction")
+    private String direction;
+
+    @Label("Polled")
+    private int polled;
+
+    @Label("Remaining")
+    private int remaining;
+
+    public void commit(int building, int floor, String direction, int polled, int remaining) {
+        if (shouldCommit()) {
+            this.building = building;
+            this.floor = floor;
+            this.direction = direction;
+            this.polled = polled;
+            this.remaining = remaining;
+            commit();
+        }
+    }
+}
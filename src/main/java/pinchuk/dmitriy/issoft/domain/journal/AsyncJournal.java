@@ -0,0 +1,170 @@
+package pinchuk.dmitriy.issoft.domain.journal;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+@Slf4j
+public class AsyncJournal implements Journal, AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final JournalEventType[] TYPES = JournalEventType.values();
+
+    @Getter
+    private final Journal delegate;
+    @Getter
+    private final int capacity;
+    private final int mask;
+    private final byte[] types;
+    private final long[] times;
+    private final long[] personIds;
+    private final int[] elevatorNumbers;
+    private final int[] floorNumbers;
+    private final int[] values;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed;
+    private final AtomicLong drained;
+    private final AtomicInteger producers;
+    private final Thread writer;
+    private volatile boolean isClosed;
+
+    public static AsyncJournal of(Journal delegate) {
+        return new AsyncJournal(delegate, DEFAULT_CAPACITY);
+    }
+
+    public static AsyncJournal of(Journal delegate, int capacity) {
+        return new AsyncJournal(delegate, capacity);
+    }
+
+    private AsyncJournal(Journal delegate, int capacity) {
+        checkNotNull(delegate);
+        checkArgument(capacity > 0 && Integer.bitCount(capacity) == 1, "capacity %s is not a power of two", capacity);
+
+        this.delegate = delegate;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.types = new byte[capacity];
+        this.times = new long[capacity];
+        this.personIds = new long[capacity];
+        this.elevatorNumbers = new int[capacity];
+        this.floorNumbers = new int[capacity];
+        this.values = new int[capacity];
+        this.published = new AtomicLongArray(capacity);
+        this.claimed = new AtomicLong();
+        this.drained = new AtomicLong();
+        this.producers = new AtomicInteger();
+        this.writer = new Thread(this::drain, "Journal writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    // the writer keeps draining after close until no producer is left between the closed check and its publish
+    @Override
+    public void append(JournalEventType type, long timeMillis, int elevatorNumber, int floorNumber, int value, long personId) {
+        producers.incrementAndGet();
+        try {
+            checkState(!isClosed);
+
+            long sequence = claimed.getAndIncrement();
+            while (sequence - drained.get() >= capacity) {
+                checkState(writer.isAlive(), "journal writer has stopped");
+                Thread.onSpinWait();
+            }
+
+            int index = (int) sequence & mask;
+            types[index] = (byte) type.ordinal();
+            times[index] = timeMillis;
+            personIds[index] = personId;
+            elevatorNumbers[index] = elevatorNumber;
+            floorNumbers[index] = floorNumber;
+            values[index] = value;
+            published.lazySet(index, sequence + 1);
+        } finally {
+            producers.decrementAndGet();
+        }
+    }
+
+    public long getNumberOfRecords() {
+        return drained.get();
+    }
+
+    public long getNumberOfPendingRecords() {
+        return claimed.get() - drained.get();
+    }
+
+    // waits until every record appended so far has reached the delegate
+    public void flush() {
+        long target = claimed.get();
+        while (drained.get() < target && writer.isAlive()) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+    }
+
+    @SneakyThrows
+    @Override
+    public synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+
+        isClosed = true;
+        LockSupport.unpark(writer);
+        writer.join();
+
+        if (delegate instanceof AutoCloseable) {
+            ((AutoCloseable) delegate).close();
+        }
+
+        log.info("async journal closed with {} records", getNumberOfRecords());
+    }
+
+    private void drain() {
+        long next = drained.get();
+
+        while (true) {
+            long batchStart = next;
+            while (next - batchStart < capacity && published.get((int) next & mask) == next + 1) {
+                deliver((int) next & mask);
+                next++;
+            }
+
+            if (next != batchStart) {
+                drained.set(next);
+                endOfBatch(next - batchStart);
+            } else if (isClosed && producers.get() == 0 && next == claimed.get()) {
+                return;
+            } else {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private void deliver(int index) {
+        try {
+            delegate.append(TYPES[types[index]], times[index], elevatorNumbers[index], floorNumbers[index],
+                    values[index], personIds[index]);
+        } catch (RuntimeException e) {
+            log.warn("journal record was dropped", e);
+        }
+    }
+
+    private void endOfBatch(long size) {
+        try {
+            delegate.endOfBatch();
+        } catch (RuntimeException e) {
+            log.warn("journal batch of {} records was not flushed", size, e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package pinchuk.dmitriy.issoft.domain.journal;
+
+public interface Journal {
+
+    int NO_ELEVATOR = -1;
+    long NO_PERSON = 0;
+
+    Journal IGNORE = (type, timeMillis, elevatorNumber, floorNumber, value, personId) -> { };
+
+    void append(JournalEventType type, long timeMillis, int elevatorNumber, int floorNumber, int value, long personId);
+
+    // called by batching writers after each drained batch
+    default void endOfBatch() {
+    }
+}
@@ -0,0 +1,9 @@
+package pinchuk.dmitriy.issoft.domain.journal;
+
+public enum JournalEventType {
+    HALL_CALL,
+    ASSIGNMENT,
+    BOARDING,
+    ALIGHTING,
+    MOVE
+}
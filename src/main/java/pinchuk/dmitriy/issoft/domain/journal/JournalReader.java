@@ -0,0 +1,69 @@
+package pinchuk.dmitriy.issoft.domain.journal;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public class JournalReader {
+
+    @Getter
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int numberOfSlots;
+
+    @SneakyThrows
+    public static JournalReader of(Path path) {
+        checkNotNull(path);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            checkArgument(channel.size() <= Integer.MAX_VALUE, "journal %s is too large to map at once", path);
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(JournalRecord.BYTE_ORDER);
+
+            return new JournalReader(path, buffer);
+        }
+    }
+
+    private JournalReader(Path path, MappedByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+        this.numberOfSlots = buffer.capacity() / JournalRecord.SIZE;
+    }
+
+    public Stream<JournalRecord> stream() {
+        return IntStream.range(0, numberOfSlots)
+                .map(i -> i * JournalRecord.SIZE)
+                .filter(i -> JournalRecord.isWritten(buffer, i))
+                .mapToObj(i -> JournalRecord.read(buffer, i));
+    }
+
+    public void replay(Consumer<JournalRecord> consumer) {
+        checkNotNull(consumer);
+
+        stream().forEachOrdered(consumer);
+    }
+
+    public Map<JournalEventType, Long> countByType() {
+        Map<JournalEventType, Long> counts = new EnumMap<>(JournalEventType.class);
+        stream().forEach(i -> counts.merge(i.getType(), 1L, Long::sum));
+
+        return counts;
+    }
+
+    public long size() {
+        return stream().count();
+    }
+}
@@ -0,0 +1,73 @@
+package pinchuk.dmitriy.issoft.domain.journal;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+@Getter
+@EqualsAndHashCode
+public class JournalRecord {
+
+    public static final int SIZE = 32;
+    public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private static final int TIME_OFFSET = 0;
+    private static final int PERSON_OFFSET = 8;
+    private static final int ELEVATOR_OFFSET = 16;
+    private static final int FLOOR_OFFSET = 20;
+    private static final int VALUE_OFFSET = 24;
+    private static final int TYPE_OFFSET = 28;
+    private static final JournalEventType[] TYPES = JournalEventType.values();
+
+    private final JournalEventType type;
+    private final long timeMillis;
+    private final int elevatorNumber;
+    private final int floorNumber;
+    private final int value;
+    private final long personId;
+
+    public static JournalRecord of(JournalEventType type, long timeMillis, int elevatorNumber, int floorNumber, int value, long personId) {
+        return new JournalRecord(type, timeMillis, elevatorNumber, floorNumber, value, personId);
+    }
+
+    private JournalRecord(JournalEventType type, long timeMillis, int elevatorNumber, int floorNumber, int value, long personId) {
+        checkNotNull(type);
+
+        this.type = type;
+        this.timeMillis = timeMillis;
+        this.elevatorNumber = elevatorNumber;
+        this.floorNumber = floorNumber;
+        this.value = value;
+        this.personId = personId;
+    }
+
+    // the type is written last and stored as ordinal + 1, so a zero type marks a slot that was never completed
+    static void write(ByteBuffer buffer, int index, JournalEventType type, long timeMillis,
+                      int elevatorNumber, int floorNumber, int value, long personId) {
+        buffer.putLong(index + TIME_OFFSET, timeMillis);
+        buffer.putLong(index + PERSON_OFFSET, personId);
+        buffer.putInt(index + ELEVATOR_OFFSET, elevatorNumber);
+        buffer.putInt(index + FLOOR_OFFSET, floorNumber);
+        buffer.putInt(index + VALUE_OFFSET, value);
+        buffer.putInt(index + TYPE_OFFSET, type.ordinal() + 1);
+    }
+
+    static boolean isWritten(ByteBuffer buffer, int index) {
+        return buffer.getInt(index + TYPE_OFFSET) != 0;
+    }
+
+    static JournalRecord read(ByteBuffer buffer, int index) {
+        return new JournalRecord(TYPES[buffer.getInt(index + TYPE_OFFSET) - 1], buffer.getLong(index + TIME_OFFSET),
+                buffer.getInt(index + ELEVATOR_OFFSET), buffer.getInt(index + FLOOR_OFFSET),
+                buffer.getInt(index + VALUE_OFFSET), buffer.getLong(index + PERSON_OFFSET));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d;%s;%d;%d;%d;%d", timeMillis, type, elevatorNumber, floorNumber, value, personId);
+    }
+}
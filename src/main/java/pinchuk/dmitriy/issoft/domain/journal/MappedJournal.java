@@ -0,0 +1,134 @@
+package pinchuk.dmitriy.issoft.domain.journal;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+@Slf4j
+public class MappedJournal implements Journal, AutoCloseable {
+
+    public static int DEFAULT_RECORDS_PER_SEGMENT = 1 << 19;
+    private static final long CLOSE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    @Getter
+    private final Path path;
+    private final FileChannel channel;
+    private final int segmentSize;
+    private final AtomicLong position;
+    private final AtomicInteger writers;
+    private volatile MappedByteBuffer[] segments;
+    private volatile boolean isClosed;
+
+    public static MappedJournal open(Path path) {
+        return new MappedJournal(path, DEFAULT_RECORDS_PER_SEGMENT);
+    }
+
+    public static MappedJournal open(Path path, int recordsPerSegment) {
+        return new MappedJournal(path, recordsPerSegment);
+    }
+
+    @SneakyThrows
+    private MappedJournal(Path path, int recordsPerSegment) {
+        checkNotNull(path);
+        checkArgument(recordsPerSegment > 0 && recordsPerSegment <= Integer.MAX_VALUE / JournalRecord.SIZE);
+
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.segmentSize = recordsPerSegment * JournalRecord.SIZE;
+        this.position = new AtomicLong();
+        this.writers = new AtomicInteger();
+        this.segments = new MappedByteBuffer[0];
+    }
+
+    // close waits until every writer that got past the check has filled its slot
+    @Override
+    public void append(JournalEventType type, long timeMillis, int elevatorNumber, int floorNumber, int value, long personId) {
+        writers.incrementAndGet();
+        try {
+            checkState(!isClosed);
+
+            long offset = position.getAndAdd(JournalRecord.SIZE);
+            int segment = (int) (offset / segmentSize);
+            MappedByteBuffer[] mapped = segments;
+            MappedByteBuffer buffer = segment < mapped.length ? mapped[segment] : mapSegment(segment);
+
+            JournalRecord.write(buffer, (int) (offset % segmentSize), type, timeMillis, elevatorNumber, floorNumber, value, personId);
+        } finally {
+            writers.decrementAndGet();
+        }
+    }
+
+    public long getNumberOfRecords() {
+        return position.get() / JournalRecord.SIZE;
+    }
+
+    @SneakyThrows
+    public synchronized void flush() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!markClosed()) {
+            return;
+        }
+
+        while (writers.get() > 0) {
+            LockSupport.parkNanos(this, CLOSE_PARK_NANOS);
+        }
+        release();
+
+        log.info("journal {} closed with {} records", path, getNumberOfRecords());
+    }
+
+    private synchronized boolean markClosed() {
+        if (isClosed) {
+            return false;
+        }
+
+        isClosed = true;
+
+        return true;
+    }
+
+    @SneakyThrows
+    private synchronized void release() {
+        flush();
+        segments = new MappedByteBuffer[0];
+        channel.truncate(position.get());
+        channel.close();
+    }
+
+    @SneakyThrows
+    private synchronized MappedByteBuffer mapSegment(int segment) {
+        MappedByteBuffer[] mapped = segments;
+
+        if (segment >= mapped.length) {
+            mapped = Arrays.copyOf(mapped, segment + 1);
+            for (int i = segments.length; i <= segment; i++) {
+                mapped[i] = channel.map(FileChannel.MapMode.READ_WRITE, (long) i * segmentSize, segmentSize);
+                mapped[i].order(JournalRecord.BYTE_ORDER);
+            }
+            segments = mapped;
+        }
+
+        return mapped[segment];
+    }
+}
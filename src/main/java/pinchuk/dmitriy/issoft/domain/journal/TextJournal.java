@@ -0,0 +1,73 @@
+package pinchuk.dmitriy.issoft.domain.journal;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+// one "time;type;elevator;floor;value;person" line per record, the same layout as JournalRecord.toString
+public class TextJournal implements Journal, AutoCloseable {
+
+    @Getter
+    private final Path path;
+    private final BufferedWriter writer;
+    private final StringBuilder line;
+    @Getter
+    private long numberOfRecords;
+    private boolean isClosed;
+
+    @SneakyThrows
+    public static TextJournal open(Path path) {
+        checkNotNull(path);
+
+        return new TextJournal(path, Files.newBufferedWriter(path, StandardCharsets.UTF_8));
+    }
+
+    private TextJournal(Path path, BufferedWriter writer) {
+        this.path = path;
+        this.writer = writer;
+        this.line = new StringBuilder(64);
+    }
+
+    @SneakyThrows
+    @Override
+    public synchronized void append(JournalEventType type, long timeMillis, int elevatorNumber, int floorNumber, int value, long personId) {
+        checkNotNull(type);
+        checkState(!isClosed);
+
+        line.setLength(0);
+        line.append(timeMillis).append(';').append(type.name()).append(';').append(elevatorNumber).append(';')
+                .append(floorNumber).append(';').append(value).append(';').append(personId).append(System.lineSeparator());
+        writer.append(line);
+        numberOfRecords++;
+    }
+
+    @Override
+    public synchronized void endOfBatch() {
+        flush();
+    }
+
+    @SneakyThrows
+    public synchronized void flush() {
+        if (!isClosed) {
+            writer.flush();
+        }
+    }
+
+    @SneakyThrows
+    @Override
+    public synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+
+        isClosed = true;
+        writer.close();
+    }
+}
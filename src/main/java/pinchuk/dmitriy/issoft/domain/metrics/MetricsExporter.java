@@ -0,0 +1,183 @@
+package pinchuk.dmitriy.issoft.domain.metrics;
+
+import com.google.common.collect.ImmutableList;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.BuildingSnapshot;
+import pinchuk.dmitriy.issoft.domain.buildings.Elevator;
+import pinchuk.dmitriy.issoft.domain.buildings.ElevatorSnapshot;
+import pinchuk.dmitriy.issoft.domain.buildings.ElevatorState;
+import pinchuk.dmitriy.issoft.domain.util.LatencyHistogram;
+import pinchuk.dmitriy.issoft.domain.util.Storage;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+// prometheus text exposition format
+public class MetricsExporter {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final double[] QUANTILES = {50, 95, 99};
+    private static final ElevatorState[] STATES = ElevatorState.values();
+
+    private final List<Building> buildings;
+    private final String[] buildingLabels;
+    private final String[][] elevatorLabels;
+    private final String[][] floorLabels;
+    private final StringBuilder buffer;
+
+    public static MetricsExporter of(List<Building> buildings) {
+        return new MetricsExporter(buildings);
+    }
+
+    private MetricsExporter(List<Building> buildings) {
+        checkNotNull(buildings);
+        checkArgument(!buildings.isEmpty());
+
+        this.buildings = ImmutableList.copyOf(buildings);
+        this.buffer = new StringBuilder(4096);
+
+        // label sets never change for a building, so they are rendered once instead of on every scrape
+        this.buildingLabels = new String[buildings.size()];
+        this.elevatorLabels = new String[buildings.size()][];
+        this.floorLabels = new String[buildings.size()][];
+        for (int b = 0; b < buildings.size(); b++) {
+            Building building = buildings.get(b);
+            String label = "{building=\"" + building.getId() + "\"";
+
+            buildingLabels[b] = label + "} ";
+            elevatorLabels[b] = building.getElevators().stream()
+                    .map(i -> label + ",elevator=\"" + i.getNumber() + "\"")
+                    .toArray(String[]::new);
+            floorLabels[b] = IntStream.range(0, building.getNumberOfFloors())
+                    .mapToObj(i -> label + ",floor=\"" + i + "\",direction=\"")
+                    .toArray(String[]::new);
+        }
+    }
+
+    // the builder is reused between scrapes, so concurrent scrapes take turns
+    public synchronized String scrape() {
+        StringBuilder out = buffer;
+        out.setLength(0);
+        BuildingSnapshot[] snapshots = buildings.stream().map(Building::snapshot).toArray(BuildingSnapshot[]::new);
+
+        family(out, "elevator_state", "gauge", "1 for the state the elevator is in, 0 otherwise");
+        for (int b = 0; b < snapshots.length; b++) {
+            List<Elevator> elevators = buildings.get(b).getElevators();
+            for (int i = 0; i < elevators.size(); i++) {
+                ElevatorState current = snapshots[b].getElevator(i).getElevatorState();
+                for (ElevatorState state : STATES) {
+                    elevatorSample(out, "elevator_state", b, i)
+                            .append(",state=\"").append(state.name()).append("\"} ")
+                            .append(state == current ? 1 : 0).append('\n');
+                }
+            }
+        }
+
+        family(out, "elevator_floor", "gauge", "Floor the elevator is at");
+        elevatorGauges(out, snapshots, "elevator_floor", (building, elevator, snapshot) -> snapshot.getCurrentFloorNumber());
+
+        family(out, "elevator_load_kilograms", "gauge", "Weight of the passengers on board");
+        elevatorGauges(out, snapshots, "elevator_load_kilograms",
+                (building, elevator, snapshot) -> elevator.getLiftingCapacity() - snapshot.getFreeCapacity());
+
+        family(out, "elevator_passengers", "gauge", "Number of passengers on board");
+        elevatorGauges(out, snapshots, "elevator_passengers", (building, elevator, snapshot) -> snapshot.getNumberOfPassengers());
+
+        family(out, "elevator_delivered_people_total", "counter", "People delivered by the elevator");
+        elevatorGauges(out, snapshots, "elevator_delivered_people_total", (building, elevator, snapshot) ->
+                building.getStorage().getNumberOfDeliveredPeopleByElevator(elevator.getNumber()));
+
+        family(out, "elevator_floors_travelled_total", "counter", "Floors travelled by the elevator");
+        elevatorGauges(out, snapshots, "elevator_floors_travelled_total", (building, elevator, snapshot) ->
+                building.getStorage().getNumberOfPassedFloorsByElevator(elevator.getNumber()));
+
+        family(out, "floor_queue_depth", "gauge", "People waiting in the lobby queue");
+        for (int b = 0; b < snapshots.length; b++) {
+            for (int floor = 0; floor < snapshots[b].getNumberOfFloors(); floor++) {
+                floorSample(out, b, floor, "up").append(snapshots[b].getNumberOfPeopleGoingUp(floor)).append('\n');
+                floorSample(out, b, floor, "down").append(snapshots[b].getNumberOfPeopleGoingDown(floor)).append('\n');
+            }
+        }
+
+        family(out, "building_hall_calls_pending", "gauge", "Hall calls not yet assigned to an elevator");
+        for (int b = 0; b < snapshots.length; b++) {
+            buildingSample(out, "building_hall_calls_pending", b).append(snapshots[b].getHallCalls().size()).append('\n');
+        }
+
+        buildingCounter(out, "building_generated_people_total", "People generated on all floors",
+                Storage::getNumberOfGeneratedPeople);
+        buildingCounter(out, "building_delivered_people_total", "People delivered by all elevators",
+                Storage::getNumberOfDeliveredPeople);
+        buildingCounter(out, "building_balked_people_total", "People turned away by a full lobby",
+                Storage::getNumberOfBalkedPeople);
+        buildingCounter(out, "building_stairs_people_total", "People who took the stairs from a full lobby",
+                Storage::getNumberOfPeopleOnStairs);
+
+        summary(out, "building_wait_time_seconds", "Time from arrival in the lobby to boarding",
+                Building::getWaitTimeHistogram);
+        summary(out, "building_ride_time_seconds", "Time from boarding to alighting",
+                Building::getRideTimeHistogram);
+
+        return out.toString();
+    }
+
+    private interface ElevatorValue {
+        long of(Building building, Elevator elevator, ElevatorSnapshot snapshot);
+    }
+
+    private void elevatorGauges(StringBuilder out, BuildingSnapshot[] snapshots, String name, ElevatorValue value) {
+        for (int b = 0; b < snapshots.length; b++) {
+            List<Elevator> elevators = buildings.get(b).getElevators();
+            for (int i = 0; i < elevators.size(); i++) {
+                elevatorSample(out, name, b, i).append("} ")
+                        .append(value.of(buildings.get(b), elevators.get(i), snapshots[b].getElevator(i))).append('\n');
+            }
+        }
+    }
+
+    private void buildingCounter(StringBuilder out, String name, String help, ToLongFunction<Storage> value) {
+        family(out, name, "counter", help);
+        for (int b = 0; b < buildings.size(); b++) {
+            buildingSample(out, name, b).append(value.applyAsLong(buildings.get(b).getStorage())).append('\n');
+        }
+    }
+
+    private void summary(StringBuilder out, String name, String help, Function<Building, LatencyHistogram> histogramOf) {
+        family(out, name, "summary", help);
+        for (int b = 0; b < buildings.size(); b++) {
+            Building building = buildings.get(b);
+            LatencyHistogram histogram = histogramOf.apply(building);
+            long[] values = histogram.getValuesAtPercentiles(QUANTILES);
+
+            for (int i = 0; i < QUANTILES.length; i++) {
+                out.append(name).append("{building=\"").append(building.getId())
+                        .append("\",quantile=\"").append(QUANTILES[i] / 100).append("\"} ")
+                        .append(values[i] / 1000.0).append('\n');
+            }
+            buildingSample(out, name + "_sum", b).append(histogram.getTotalValue() / 1000.0).append('\n');
+            buildingSample(out, name + "_count", b).append(histogram.getCount()).append('\n');
+        }
+    }
+
+    private static void family(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n')
+                .append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private StringBuilder elevatorSample(StringBuilder out, String name, int building, int elevator) {
+        return out.append(name).append(elevatorLabels[building][elevator]);
+    }
+
+    private StringBuilder floorSample(StringBuilder out, int building, int floor, String direction) {
+        return out.append("floor_queue_depth").append(floorLabels[building][floor]).append(direction).append("\"} ");
+    }
+
+    private StringBuilder buildingSample(StringBuilder out, String name, int building) {
+        return out.append(name).append(buildingLabels[building]);
+    }
+}
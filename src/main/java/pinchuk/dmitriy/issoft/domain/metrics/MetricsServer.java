@@ -0,0 +1,94 @@
+package pinchuk.dmitriy.issoft.domain.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+@Slf4j
+public class MetricsServer implements AutoCloseable {
+
+    public static final String PATH = "/metrics";
+
+    @Getter
+    private final MetricsExporter exporter;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    // binds to the loopback interface; port 0 picks a free port
+    public static MetricsServer start(int port, List<Building> buildings) {
+        checkArgument(port >= 0 && port <= 0xFFFF);
+
+        return new MetricsServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), buildings);
+    }
+
+    public static MetricsServer start(InetSocketAddress address, List<Building> buildings) {
+        return new MetricsServer(address, buildings);
+    }
+
+    @SneakyThrows
+    private MetricsServer(InetSocketAddress address, List<Building> buildings) {
+        checkNotNull(address);
+
+        this.exporter = MetricsExporter.of(buildings);
+        this.executor = Executors.newSingleThreadExecutor(i -> {
+            Thread thread = new Thread(i, "Metrics server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(address, 0);
+        this.server.createContext(PATH, this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+
+        log.info("metrics are served on http://{}:{}{}", address.getHostString(), getPort(), PATH);
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            if (!method.equals("GET") && !method.equals("HEAD")) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] body = exporter.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", MetricsExporter.CONTENT_TYPE);
+
+            if (method.equals("HEAD")) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -7,42 +7,63 @@ import pinchuk.dmitriy.issoft.domain.buildings.DirectionOfTravel;
 import pinchuk.dmitriy.issoft.domain.buildings.Floor;
 import pinchuk.dmitriy.issoft.domain.buildings.Trip;
 
-import java.util.UUID;
-
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 @Getter
-@Setter
-@EqualsAndHashCode
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class Person {
 
     public static int MIN_WEIGHT = 10;
     public static int MAX_WEIGHT = 180;
 
-    private final String id;
-    private final int weight;
-    private final Floor currentFloor;
-    private final int neededFloor;
-    private final Trip trip;
+    @EqualsAndHashCode.Include
+    private long id;
+    private int weight;
+    private Floor currentFloor;
+    private int neededFloor;
+    private Trip trip;
+    @Setter
+    private volatile long spawnTimeMillis;
+    @Setter
+    private volatile long boardTimeMillis;
+    @Setter
+    private volatile long alightTimeMillis;
 
     public static Person of(int weight, Floor currentFloor, int neededFloor) {
         return new Person(weight, currentFloor, neededFloor);
     }
 
     private Person(int weight, Floor currentFloor, int neededFloor) {
+        reset(weight, currentFloor, neededFloor);
+    }
+
+    Person reset(int weight, Floor currentFloor, int neededFloor) {
         checkNotNull(currentFloor);
         checkArgument(neededFloor >= Floor.NUMBER_OF_FIRST_FLOOR);
         checkArgument(neededFloor != currentFloor.getNumberOfFloor());
         checkArgument(weight >= MIN_WEIGHT && weight <= MAX_WEIGHT);
 
-        this.id = UUID.randomUUID().toString();
+        this.id = currentFloor.getBuilding().nextPersonId();
         this.weight = weight;
         this.currentFloor = currentFloor;
         this.neededFloor = neededFloor;
         this.trip = Trip.of(neededFloor,
                 neededFloor - currentFloor.getNumberOfFloor() > 0 ? DirectionOfTravel.UP : DirectionOfTravel.DOWN);
+        this.spawnTimeMillis = currentFloor.getBuilding().getClock().currentTimeMillis();
+        this.boardTimeMillis = 0;
+        this.alightTimeMillis = 0;
+
+        return this;
+    }
+
+    // a person timed under one clock and boarded under another has no meaningful interval
+    public long getWaitTimeMillis() {
+        return Math.max(0, boardTimeMillis - spawnTimeMillis);
+    }
 
+    public long getRideTimeMillis() {
+        return Math.max(0, alightTimeMillis - boardTimeMillis);
     }
 
     public void pushButton() {
@@ -0,0 +1,60 @@
+package pinchuk.dmitriy.issoft.domain.people;
+
+import pinchuk.dmitriy.issoft.domain.buildings.Floor;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public class PersonPool {
+
+    public static int DEFAULT_CAPACITY = 4096;
+
+    private final Person[] people;
+    private int size;
+    private final Lock poolLock;
+
+    public PersonPool(int capacity) {
+        checkArgument(capacity >= 0);
+
+        this.people = new Person[capacity];
+        this.poolLock = new ReentrantLock();
+    }
+
+    public Person acquire(int weight, Floor currentFloor, int neededFloor) {
+        Person person = null;
+
+        poolLock.lock();
+        if (size > 0) {
+            person = people[--size];
+            people[size] = null;
+        }
+        poolLock.unlock();
+
+        return person == null ? Person.of(weight, currentFloor, neededFloor) : person.reset(weight, currentFloor, neededFloor);
+    }
+
+    public void release(Person person) {
+        checkNotNull(person);
+
+        poolLock.lock();
+        if (size < people.length) {
+            people[size++] = person;
+        }
+        poolLock.unlock();
+    }
+
+    public int size() {
+        poolLock.lock();
+        int result = size;
+        poolLock.unlock();
+
+        return result;
+    }
+
+    public int getCapacity() {
+        return people.length;
+    }
+}
@@ -0,0 +1,143 @@
+package pinchuk.dmitriy.issoft.domain.simulation;
+
+import com.google.common.collect.ImmutableList;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.util.LatencyHistogram;
+import pinchuk.dmitriy.issoft.domain.util.Storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+@Slf4j
+@Getter
+public class Campus implements AutoCloseable {
+
+    private final int numberOfWorkers;
+    private final ExecutorService workers;
+    private final List<HeadlessSimulation> simulations;
+    private long elapsedNanos;
+
+    public static Campus of(int numberOfWorkers) {
+        return new Campus(numberOfWorkers);
+    }
+
+    public static Campus withAllProcessors() {
+        return new Campus(Runtime.getRuntime().availableProcessors());
+    }
+
+    private Campus(int numberOfWorkers) {
+        checkArgument(numberOfWorkers > 0);
+
+        AtomicInteger workerNumber = new AtomicInteger();
+
+        this.numberOfWorkers = numberOfWorkers;
+        this.simulations = new ArrayList<>();
+        this.workers = Executors.newFixedThreadPool(numberOfWorkers, i -> {
+            Thread thread = new Thread(i, "Campus worker " + workerNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Campus addBuilding(Building building, long seed) {
+        checkNotNull(building);
+        checkState(!workers.isShutdown());
+
+        simulations.add(HeadlessSimulation.of(building, seed));
+
+        return this;
+    }
+
+    @SneakyThrows
+    public Campus runFor(long duration, TimeUnit unit) {
+        checkArgument(duration >= 0);
+        checkNotNull(unit);
+        checkState(!workers.isShutdown());
+
+        List<Callable<HeadlessSimulation>> tasks = simulations.stream()
+                .map(i -> (Callable<HeadlessSimulation>) () -> i.runFor(duration, unit))
+                .collect(Collectors.toList());
+
+        long startNanos = System.nanoTime();
+        for (Future<HeadlessSimulation> future : workers.invokeAll(tasks)) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            }
+        }
+        elapsedNanos += System.nanoTime() - startNanos;
+
+        log.info("campus simulated {} buildings on {} workers in {} ms", simulations.size(), numberOfWorkers,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+
+        return this;
+    }
+
+    public List<Building> getBuildings() {
+        return simulations.stream()
+                .map(HeadlessSimulation::getBuilding)
+                .collect(ImmutableList.toImmutableList());
+    }
+
+    public Storage getStorage() {
+        List<Building> buildings = getBuildings();
+        Storage storage = new Storage(buildings.stream().mapToInt(Building::getNumberOfElevators).max().orElse(0),
+                buildings.stream().mapToInt(Building::getNumberOfFloors).max().orElse(0));
+        buildings.forEach(i -> storage.add(i.getStorage()));
+
+        return storage;
+    }
+
+    public LatencyHistogram getWaitTimeHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        simulations.forEach(i -> histogram.add(i.getBuilding().getWaitTimeHistogram()));
+
+        return histogram;
+    }
+
+    public LatencyHistogram getRideTimeHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        simulations.forEach(i -> histogram.add(i.getBuilding().getRideTimeHistogram()));
+
+        return histogram;
+    }
+
+    public String getReport() {
+        Storage storage = getStorage();
+        StringBuilder report = new StringBuilder()
+                .append("Campus of ").append(simulations.size()).append(" buildings: delivered ")
+                .append(storage.getNumberOfDeliveredPeople()).append(" of ").append(storage.getNumberOfGeneratedPeople())
+                .append("; balked ").append(storage.getNumberOfBalkedPeople())
+                .append("; wait ").append(getWaitTimeHistogram())
+                .append("; ride ").append(getRideTimeHistogram());
+
+        simulations.forEach(i -> report.append(System.lineSeparator())
+                .append("Building ").append(i.getBuilding().getId()).append(": delivered ")
+                .append(i.getBuilding().getStorage().getNumberOfDeliveredPeople())
+                .append("; wait ").append(i.getBuilding().getWaitTimeHistogram())
+                .append("; ride ").append(i.getBuilding().getRideTimeHistogram()));
+
+        return report.toString();
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+}
@@ -0,0 +1,157 @@
+package pinchuk.dmitriy.issoft.domain.simulation;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.Controller;
+import pinchuk.dmitriy.issoft.domain.buildings.Elevator;
+import pinchuk.dmitriy.issoft.domain.buildings.ElevatorState;
+import pinchuk.dmitriy.issoft.domain.util.PeopleSpawn;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+@Slf4j
+public class DiscreteEventSimulation implements SimulationClock {
+
+    private final Building building;
+    private final PriorityQueue<SimulationEvent> events;
+    private final boolean[] idleElevators;
+
+    private long currentTimeMillis;
+    @Getter
+    private long numberOfProcessedEvents;
+    private long pendingDelayMillis;
+    private long sequence;
+    private long dispatchedVersion;
+    private boolean isStarted;
+
+    public static DiscreteEventSimulation of(Building building) {
+        return new DiscreteEventSimulation(building);
+    }
+
+    private DiscreteEventSimulation(Building building) {
+        checkNotNull(building);
+        checkNotNull(building.getController());
+
+        this.building = building;
+        this.events = new PriorityQueue<>();
+        this.idleElevators = new boolean[building.getNumberOfElevators()];
+        this.dispatchedVersion = -1;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return currentTimeMillis;
+    }
+
+    @Override
+    public void sleep(TimeUnit unit, long duration) {
+        checkArgument(duration >= 0);
+
+        pendingDelayMillis += unit.toMillis(duration);
+    }
+
+    public void runFor(long duration, TimeUnit unit) {
+        checkArgument(duration >= 0);
+
+        start();
+
+        long endTimeMillis = currentTimeMillis + unit.toMillis(duration);
+
+        while (!events.isEmpty() && events.peek().getTimeMillis() <= endTimeMillis) {
+            SimulationEvent event = events.poll();
+            currentTimeMillis = event.getTimeMillis();
+
+            process(event);
+            dispatchPendingTrips();
+            callIdleElevators();
+        }
+
+        currentTimeMillis = endTimeMillis;
+        log.info("simulation reached {} ms after {} events", currentTimeMillis, numberOfProcessedEvents);
+    }
+
+    private void start() {
+        if (isStarted) {
+            return;
+        }
+
+        building.setClock(this);
+
+        for (int i = 0; i < building.getNumberOfFloors(); i++) {
+            building.getFloorWithIndex(i).getPeopleSpawn().unpause();
+            schedule(currentTimeMillis, SimulationEventType.PEOPLE_SPAWN, i);
+        }
+
+        for (int i = 0; i < building.getNumberOfElevators(); i++) {
+            building.getElevators().get(i).park();
+            idleElevators[i] = true;
+        }
+
+        isStarted = true;
+    }
+
+    private void process(SimulationEvent event) {
+        numberOfProcessedEvents++;
+
+        if (event.getType() == SimulationEventType.PEOPLE_SPAWN) {
+            spawnPeople(event.getTargetIndex());
+        } else {
+            moveElevator(event.getTargetIndex());
+        }
+    }
+
+    private void spawnPeople(int floorIndex) {
+        PeopleSpawn peopleSpawn = building.getFloorWithIndex(floorIndex).getPeopleSpawn();
+
+        if (peopleSpawn.isWorking()) {
+            peopleSpawn.spawnPeople();
+            schedule(currentTimeMillis + TimeUnit.SECONDS.toMillis(PeopleSpawn.TIMEOUT_BETWEEN_GENERATE_PEOPLE),
+                    SimulationEventType.PEOPLE_SPAWN, floorIndex);
+        }
+    }
+
+    private void moveElevator(int elevatorIndex) {
+        Elevator elevator = building.getElevators().get(elevatorIndex);
+
+        pendingDelayMillis = 0;
+
+        if (elevator.step()) {
+            SimulationEventType type = elevator.getElevatorState() == ElevatorState.MOVE
+                    ? SimulationEventType.ELEVATOR_ARRIVED
+                    : SimulationEventType.PASSENGERS_BOARDED;
+
+            schedule(currentTimeMillis + pendingDelayMillis, type, elevatorIndex);
+        } else {
+            elevator.park();
+            idleElevators[elevatorIndex] = true;
+        }
+    }
+
+    private void dispatchPendingTrips() {
+        Controller controller = building.getController();
+        long version = controller.getStateVersion();
+
+        if (version != dispatchedVersion) {
+            dispatchedVersion = version;
+            controller.sendAllTrips();
+        }
+    }
+
+    private void callIdleElevators() {
+        for (int i = 0; i < idleElevators.length; i++) {
+            if (idleElevators[i] && !building.getElevators().get(i).getTrips().isEmpty()) {
+                idleElevators[i] = false;
+                schedule(currentTimeMillis, SimulationEventType.ELEVATOR_CALLED, i);
+            }
+        }
+    }
+
+    private void schedule(long timeMillis, SimulationEventType type, int targetIndex) {
+        events.add(SimulationEvent.of(timeMillis, sequence++, type, targetIndex));
+    }
+}
@@ -0,0 +1,51 @@
+package pinchuk.dmitriy.issoft.domain.simulation;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.people.PersonPool;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+@Slf4j
+@Getter
+public class HeadlessSimulation {
+
+    private final Building building;
+    private final long seed;
+    private final TripLog tripLog;
+    private final DiscreteEventSimulation simulation;
+    private long elapsedNanos;
+
+    public static HeadlessSimulation of(Building building, long seed) {
+        return new HeadlessSimulation(building, seed);
+    }
+
+    private HeadlessSimulation(Building building, long seed) {
+        checkNotNull(building);
+        checkNotNull(building.getController());
+
+        this.building = building;
+        this.seed = seed;
+        this.tripLog = new TripLog();
+        this.simulation = DiscreteEventSimulation.of(building);
+
+        building.setRandomSeed(seed).setTripListener(tripLog).setPersonPool(new PersonPool(PersonPool.DEFAULT_CAPACITY));
+    }
+
+    public HeadlessSimulation runFor(long duration, TimeUnit unit) {
+        checkArgument(duration >= 0);
+
+        long startNanos = System.nanoTime();
+        simulation.runFor(duration, unit);
+        elapsedNanos += System.nanoTime() - startNanos;
+
+        log.info("seed {} simulated {} ms with {} trips in {} ms", seed, simulation.currentTimeMillis(),
+                tripLog.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+
+        return this;
+    }
+}
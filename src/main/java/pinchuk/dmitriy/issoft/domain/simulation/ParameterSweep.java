@@ -0,0 +1,209 @@
+package pinchuk.dmitriy.issoft.domain.simulation;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.StopOrder;
+import pinchuk.dmitriy.issoft.domain.util.LatencyHistogram;
+import pinchuk.dmitriy.issoft.domain.util.Storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+@Slf4j
+@Getter
+public class ParameterSweep {
+
+    private final long simulatedMillis;
+    private List<Integer> numbersOfFloors;
+    private List<Integer> numbersOfElevators;
+    private List<Integer> liftingCapacities;
+    private List<Integer> doorSpeeds;
+    private List<Integer> intensities;
+    private List<StopOrder> stopOrders;
+    private List<TrafficPattern> trafficPatterns;
+    private List<Long> seeds;
+    private int parallelism;
+
+    public static ParameterSweep of(long duration, TimeUnit unit) {
+        return new ParameterSweep(duration, unit);
+    }
+
+    private ParameterSweep(long duration, TimeUnit unit) {
+        checkArgument(duration > 0);
+        checkNotNull(unit);
+
+        this.simulatedMillis = unit.toMillis(duration);
+        this.numbersOfFloors = List.of(10);
+        this.numbersOfElevators = List.of(5);
+        this.liftingCapacities = List.of(400);
+        this.doorSpeeds = List.of(1);
+        this.intensities = List.of(1);
+        this.stopOrders = List.of(StopOrder.LOOK);
+        this.trafficPatterns = List.of(TrafficPattern.UNIFORM);
+        this.seeds = List.of(1L);
+        this.parallelism = Runtime.getRuntime().availableProcessors();
+    }
+
+    public ParameterSweep setNumbersOfFloors(int... numbersOfFloors) {
+        this.numbersOfFloors = valuesOf(numbersOfFloors);
+
+        return this;
+    }
+
+    public ParameterSweep setNumbersOfElevators(int... numbersOfElevators) {
+        this.numbersOfElevators = valuesOf(numbersOfElevators);
+
+        return this;
+    }
+
+    public ParameterSweep setLiftingCapacities(int... liftingCapacities) {
+        this.liftingCapacities = valuesOf(liftingCapacities);
+
+        return this;
+    }
+
+    public ParameterSweep setDoorSpeeds(int... doorSpeeds) {
+        this.doorSpeeds = valuesOf(doorSpeeds);
+
+        return this;
+    }
+
+    public ParameterSweep setIntensities(int... intensities) {
+        this.intensities = valuesOf(intensities);
+
+        return this;
+    }
+
+    public ParameterSweep setStopOrders(StopOrder... stopOrders) {
+        checkArgument(stopOrders.length > 0);
+
+        this.stopOrders = ImmutableList.copyOf(stopOrders);
+
+        return this;
+    }
+
+    public ParameterSweep setTrafficPatterns(TrafficPattern... trafficPatterns) {
+        checkArgument(trafficPatterns.length > 0);
+
+        this.trafficPatterns = ImmutableList.copyOf(trafficPatterns);
+
+        return this;
+    }
+
+    public ParameterSweep setSeeds(long... seeds) {
+        checkArgument(seeds.length > 0);
+
+        this.seeds = ImmutableList.copyOf(Longs.asList(seeds));
+
+        return this;
+    }
+
+    public ParameterSweep setParallelism(int parallelism) {
+        checkArgument(parallelism > 0);
+
+        this.parallelism = parallelism;
+
+        return this;
+    }
+
+    public List<SweepConfiguration> getConfigurations() {
+        List<SweepConfiguration> configurations = new ArrayList<>();
+
+        for (int floors : numbersOfFloors) {
+            for (int elevators : numbersOfElevators) {
+                for (int capacity : liftingCapacities) {
+                    for (int doorSpeed : doorSpeeds) {
+                        for (int intensity : intensities) {
+                            for (TrafficPattern trafficPattern : trafficPatterns) {
+                                for (StopOrder stopOrder : stopOrders) {
+                                    configurations.add(SweepConfiguration.of(floors, elevators, capacity, doorSpeed,
+                                            intensity, stopOrder, trafficPattern));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        return configurations;
+    }
+
+    // one fork-join task per (configuration, seed); each task is a single-threaded discrete-event run
+    @SneakyThrows
+    public List<SweepResult> run() {
+        List<SweepConfiguration> configurations = getConfigurations();
+        List<List<ForkJoinTask<Building>>> runs = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+        try {
+            for (SweepConfiguration configuration : configurations) {
+                runs.add(seeds.stream()
+                        .map(i -> pool.submit(() -> simulate(configuration, i)))
+                        .collect(Collectors.toList()));
+            }
+
+            List<SweepResult> results = new ArrayList<>();
+            for (int i = 0; i < configurations.size(); i++) {
+                results.add(resultOf(configurations.get(i), runs.get(i)));
+            }
+
+            return results;
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    public static String toTable(List<SweepResult> results) {
+        checkNotNull(results);
+
+        StringBuilder table = new StringBuilder(SweepResult.HEADER);
+        results.forEach(i -> table.append(System.lineSeparator()).append(i));
+
+        return table.toString();
+    }
+
+    private Building simulate(SweepConfiguration configuration, long seed) {
+        Building building = configuration.newBuilding((int) seed);
+        HeadlessSimulation.of(building, seed).runFor(simulatedMillis, TimeUnit.MILLISECONDS);
+
+        return building;
+    }
+
+    private SweepResult resultOf(SweepConfiguration configuration, List<ForkJoinTask<Building>> runs)
+            throws ExecutionException, InterruptedException {
+        Storage storage = new Storage(configuration.getNumberOfElevators(), configuration.getNumberOfFloors());
+        LatencyHistogram waitTimeHistogram = new LatencyHistogram();
+
+        for (ForkJoinTask<Building> run : runs) {
+            Building building = run.get();
+            storage.add(building.getStorage());
+            waitTimeHistogram.add(building.getWaitTimeHistogram());
+        }
+
+        log.info("sweep finished {} with {} runs", configuration, runs.size());
+
+        return SweepResult.of(configuration, runs.size(), simulatedMillis, storage, waitTimeHistogram);
+    }
+
+    private static List<Integer> valuesOf(int... values) {
+        checkArgument(values.length > 0);
+
+        return ImmutableList.copyOf(Ints.asList(values));
+    }
+}
@@ -0,0 +1,25 @@
+package pinchuk.dmitriy.issoft.domain.simulation;
+
+import java.util.concurrent.TimeUnit;
+
+public class RealTimeClock implements SimulationClock {
+
+    private static final RealTimeClock INSTANCE = new RealTimeClock();
+
+    private RealTimeClock() {
+    }
+
+    public static RealTimeClock getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public void sleep(TimeUnit unit, long duration) throws InterruptedException {
+        unit.sleep(duration);
+    }
+}
@@ -0,0 +1,10 @@
+package pinchuk.dmitriy.issoft.domain.simulation;
+
+import java.util.concurrent.TimeUnit;
+
+public interface SimulationClock {
+
+    long currentTimeMillis();
+
+    void sleep(TimeUnit unit, long duration) throws InterruptedException;
+}
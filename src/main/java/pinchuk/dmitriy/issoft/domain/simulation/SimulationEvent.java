@@ -0,0 +1,42 @@
+package pinchuk.dmitriy.issoft.domain.simulation;
+
+import lombok.Getter;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+@Getter
+public class SimulationEvent implements Comparable<SimulationEvent> {
+
+    private final long timeMillis;
+    private final long sequence;
+    private final SimulationEventType type;
+    private final int targetIndex;
+
+    public static SimulationEvent of(long timeMillis, long sequence, SimulationEventType type, int targetIndex) {
+        return new SimulationEvent(timeMillis, sequence, type, targetIndex);
+    }
+
+    private SimulationEvent(long timeMillis, long sequence, SimulationEventType type, int targetIndex) {
+        checkArgument(timeMillis >= 0);
+        checkArgument(targetIndex >= 0);
+        checkNotNull(type);
+
+        this.timeMillis = timeMillis;
+        this.sequence = sequence;
+        this.type = type;
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public int compareTo(SimulationEvent other) {
+        int result = Long.compare(timeMillis, other.timeMillis);
+
+        return result != 0 ? result : Long.compare(sequence, other.sequence);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("(At->%s; Type:%s; Target:%s)", timeMillis, type, targetIndex);
+    }
+}
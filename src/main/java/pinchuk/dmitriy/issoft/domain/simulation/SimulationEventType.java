@@ -0,0 +1,8 @@
+package pinchuk.dmitriy.issoft.domain.simulation;
+
+public enum SimulationEventType {
+    PEOPLE_SPAWN,
+    ELEVATOR_CALLED,
+    ELEVATOR_ARRIVED,
+    PASSENGERS_BOARDED
+}
@@ -0,0 +1,79 @@
+package pinchuk.dmitriy.issoft.domain.simulation;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.Controller;
+import pinchuk.dmitriy.issoft.domain.buildings.Elevator;
+import pinchuk.dmitriy.issoft.domain.buildings.Floor;
+import pinchuk.dmitriy.issoft.domain.buildings.StopOrder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+@Getter
+@EqualsAndHashCode
+public class SweepConfiguration {
+
+    private final int numberOfFloors;
+    private final int numberOfElevators;
+    private final int liftingCapacity;
+    private final int doorSpeed;
+    private final int intensity;
+    private final StopOrder stopOrder;
+    private final TrafficPattern trafficPattern;
+
+    public static SweepConfiguration of(int numberOfFloors, int numberOfElevators, int liftingCapacity, int doorSpeed, int intensity) {
+        return new SweepConfiguration(numberOfFloors, numberOfElevators, liftingCapacity, doorSpeed, intensity,
+                StopOrder.LOOK, TrafficPattern.UNIFORM);
+    }
+
+    public static SweepConfiguration of(int numberOfFloors, int numberOfElevators, int liftingCapacity, int doorSpeed, int intensity,
+                                        StopOrder stopOrder, TrafficPattern trafficPattern) {
+        return new SweepConfiguration(numberOfFloors, numberOfElevators, liftingCapacity, doorSpeed, intensity,
+                stopOrder, trafficPattern);
+    }
+
+    private SweepConfiguration(int numberOfFloors, int numberOfElevators, int liftingCapacity, int doorSpeed, int intensity,
+                               StopOrder stopOrder, TrafficPattern trafficPattern) {
+        checkArgument(numberOfFloors > 1);
+        checkArgument(numberOfElevators > 0);
+        checkArgument(liftingCapacity > 0);
+        checkArgument(doorSpeed >= 0);
+        checkArgument(intensity > 0);
+        checkNotNull(stopOrder);
+        checkNotNull(trafficPattern);
+
+        this.numberOfFloors = numberOfFloors;
+        this.numberOfElevators = numberOfElevators;
+        this.liftingCapacity = liftingCapacity;
+        this.doorSpeed = doorSpeed;
+        this.intensity = intensity;
+        this.stopOrder = stopOrder;
+        this.trafficPattern = trafficPattern;
+    }
+
+    public Building newBuilding(int id) {
+        Building building = Building.of(id, numberOfFloors, numberOfElevators, "sweep")
+                .setController(new Controller())
+                .setStopOrder(stopOrder);
+
+        for (Elevator elevator : building.getElevators()) {
+            elevator.setLiftingCapacity(liftingCapacity);
+            elevator.setDoorSpeed(doorSpeed);
+        }
+        for (Floor floor : building.getFloors()) {
+            boolean isSpawning = trafficPattern == TrafficPattern.UNIFORM
+                    || floor.getNumberOfFloor() == Floor.NUMBER_OF_FIRST_FLOOR;
+            floor.getPeopleSpawn().setIntensity(isSpawning ? intensity : 0);
+        }
+
+        return building;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("(Floors:%d; Elevators:%d; Capacity:%d; Door:%d; Intensity:%d; Order:%s; Traffic:%s)",
+                numberOfFloors, numberOfElevators, liftingCapacity, doorSpeed, intensity, stopOrder, trafficPattern);
+    }
+}
@@ -0,0 +1,58 @@
+package pinchuk.dmitriy.issoft.domain.simulation;
+
+import lombok.Getter;
+import pinchuk.dmitriy.issoft.domain.util.LatencyHistogram;
+import pinchuk.dmitriy.issoft.domain.util.Storage;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+@Getter
+public class SweepResult {
+
+    public static final String HEADER = String.format("%6s %9s %8s %4s %9s %5s %8s %6s %12s %12s %12s %14s",
+            "floors", "elevators", "capacity", "door", "intensity", "order", "traffic", "runs",
+            "people/hour", "mean wait s", "p95 wait s", "floors/person");
+
+    private final SweepConfiguration configuration;
+    private final int numberOfRuns;
+    private final long numberOfDeliveredPeople;
+    private final double throughputPerHour;
+    private final double meanWaitSeconds;
+    private final double p95WaitSeconds;
+    private final double floorsPerDeliveredPerson;
+
+    public static SweepResult of(SweepConfiguration configuration, int numberOfRuns, long simulatedMillis,
+                                 Storage storage, LatencyHistogram waitTimeHistogram) {
+        return new SweepResult(configuration, numberOfRuns, simulatedMillis, storage, waitTimeHistogram);
+    }
+
+    private SweepResult(SweepConfiguration configuration, int numberOfRuns, long simulatedMillis,
+                        Storage storage, LatencyHistogram waitTimeHistogram) {
+        checkNotNull(configuration);
+        checkNotNull(storage);
+        checkNotNull(waitTimeHistogram);
+        checkArgument(numberOfRuns > 0);
+        checkArgument(simulatedMillis > 0);
+
+        long delivered = storage.getNumberOfDeliveredPeople();
+
+        this.configuration = configuration;
+        this.numberOfRuns = numberOfRuns;
+        this.numberOfDeliveredPeople = delivered;
+        this.throughputPerHour = (double) delivered / numberOfRuns * TimeUnit.HOURS.toMillis(1) / simulatedMillis;
+        this.meanWaitSeconds = waitTimeHistogram.getMean() / 1000;
+        this.p95WaitSeconds = waitTimeHistogram.getValueAtPercentile(95) / 1000.0;
+        this.floorsPerDeliveredPerson = delivered == 0 ? 0 : (double) storage.getNumberOfPassedFloors() / delivered;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%6d %9d %8d %4d %9d %5s %8s %6d %12.1f %12.1f %12.1f %14.2f",
+                configuration.getNumberOfFloors(), configuration.getNumberOfElevators(),
+                configuration.getLiftingCapacity(), configuration.getDoorSpeed(), configuration.getIntensity(),
+                configuration.getStopOrder(), configuration.getTrafficPattern(), numberOfRuns, throughputPerHour, meanWaitSeconds, p95WaitSeconds, floorsPerDeliveredPerson);
+    }
+}
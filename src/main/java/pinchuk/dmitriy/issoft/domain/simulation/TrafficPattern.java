@@ -0,0 +1,6 @@
+package pinchuk.dmitriy.issoft.domain.simulation;
+
+public enum TrafficPattern {
+    UNIFORM,
+    UP_PEAK
+}
@@ -0,0 +1,11 @@
+package pinchuk.dmitriy.issoft.domain.simulation;
+
+import pinchuk.dmitriy.issoft.domain.buildings.Elevator;
+import pinchuk.dmitriy.issoft.domain.people.Person;
+
+public interface TripListener {
+
+    TripListener IGNORE = (elevator, person, timeMillis) -> { };
+
+    void onTripCompleted(Elevator elevator, Person person, long timeMillis);
+}
@@ -0,0 +1,47 @@
+package pinchuk.dmitriy.issoft.domain.simulation;
+
+import com.google.common.collect.ImmutableList;
+import pinchuk.dmitriy.issoft.domain.buildings.Elevator;
+import pinchuk.dmitriy.issoft.domain.people.Person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class TripLog implements TripListener {
+
+    private final List<TripRecord> records;
+    private final Lock recordLock;
+
+    public TripLog() {
+        this.records = new ArrayList<>();
+        this.recordLock = new ReentrantLock();
+    }
+
+    @Override
+    public void onTripCompleted(Elevator elevator, Person person, long timeMillis) {
+        TripRecord record = TripRecord.of(timeMillis, elevator.getNumber(),
+                person.getCurrentFloor().getNumberOfFloor(), person.getNeededFloor(), person.getWeight());
+
+        recordLock.lock();
+        records.add(record);
+        recordLock.unlock();
+    }
+
+    public List<TripRecord> getRecords() {
+        recordLock.lock();
+        List<TripRecord> result = ImmutableList.copyOf(records);
+        recordLock.unlock();
+
+        return result;
+    }
+
+    public int size() {
+        recordLock.lock();
+        int size = records.size();
+        recordLock.unlock();
+
+        return size;
+    }
+}
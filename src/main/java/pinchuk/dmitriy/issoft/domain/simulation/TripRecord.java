@@ -0,0 +1,37 @@
+package pinchuk.dmitriy.issoft.domain.simulation;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+@Getter
+@EqualsAndHashCode
+public class TripRecord {
+
+    private final long timeMillis;
+    private final int elevatorNumber;
+    private final int startFloorNumber;
+    private final int targetFloorNumber;
+    private final int weight;
+
+    public static TripRecord of(long timeMillis, int elevatorNumber, int startFloorNumber, int targetFloorNumber, int weight) {
+        return new TripRecord(timeMillis, elevatorNumber, startFloorNumber, targetFloorNumber, weight);
+    }
+
+    private TripRecord(long timeMillis, int elevatorNumber, int startFloorNumber, int targetFloorNumber, int weight) {
+        checkArgument(timeMillis >= 0);
+        checkArgument(weight > 0);
+
+        this.timeMillis = timeMillis;
+        this.elevatorNumber = elevatorNumber;
+        this.startFloorNumber = startFloorNumber;
+        this.targetFloorNumber = targetFloorNumber;
+        this.weight = weight;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d;%d;%d;%d;%d", timeMillis, elevatorNumber, startFloorNumber, targetFloorNumber, weight);
+    }
+}
@@ -4,13 +4,11 @@ package pinchuk.dmitriy.issoft.domain.util;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import pinchuk.dmitriy.issoft.domain.buildings.Building;
-import pinchuk.dmitriy.issoft.domain.buildings.ElevatorState;
 
 import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkArgument;
-import static pinchuk.dmitriy.issoft.domain.buildings.ElevatorState.*;
 
 @Slf4j
 public class BuildPrintingUtil extends Thread {
@@ -19,13 +17,14 @@ public class BuildPrintingUtil extends Thread {
     private boolean isRunning;
     private final Building building;
     private final int renderingSpeed;
-    private ElevatorState state;
+    private final ConsoleRenderer renderer;
     private BuildPrintingUtil(Building building, int renderingSpeed){
         checkNotNull(building);
         checkArgument(renderingSpeed <= 1000 && renderingSpeed >= 100);
 
         this.building = building;
         this.renderingSpeed = renderingSpeed;
+        this.renderer = ConsoleRenderer.of(building);
 
         String threadName = "Util";
         this.setName(threadName);
@@ -36,27 +35,7 @@ public class BuildPrintingUtil extends Thread {
     }
 
     public void printBuilding() {
-        System.out.flush();
-
-        System.out.printf("Delivered: %s\n", Storage.getInstance().getNumberOfDeliveredPeople());
-        System.out.printf("Generated: %s\n", Storage.getInstance().getNumberOfGeneratedPeople());
-        System.out.printf("Floors passed: %s\n", Storage.getInstance().getNumberOfPassedFloors());
-
-
-        for (int i = 0; i < building.getElevators().size(); i++) {
-
-            state = switch (building.getElevators().get(i).getElevatorState()) {
-                case OPEN_DOOR -> OPEN_DOOR;
-                case CLOSE_DOOR -> CLOSE_DOOR;
-                case LOAD -> LOAD;
-                case STOP -> STOP;
-                case MOVE -> MOVE;
-                case END -> END;
-            };
-
-            System.out.println(building.getElevators().get(i));
-        }
-
+        renderer.render();
     }
 
     private void waitForOperation(){
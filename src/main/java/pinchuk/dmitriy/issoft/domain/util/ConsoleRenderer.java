@@ -0,0 +1,161 @@
+package pinchuk.dmitriy.issoft.domain.util;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.BuildingSnapshot;
+import pinchuk.dmitriy.issoft.domain.buildings.Elevator;
+import pinchuk.dmitriy.issoft.domain.buildings.ElevatorSnapshot;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+// draws a building into one reusable ascii buffer and writes every frame with a single write call;
+// after the first frame only the counters and the cars whose snapshot changed are redrawn in place
+public class ConsoleRenderer {
+
+    private static final byte ESCAPE = 27;
+    private static final int HEADER_ROWS = 4;
+
+    private final Building building;
+    private final OutputStream out;
+    private byte[] frame;
+    @Getter
+    private int frameSize;
+    private ElevatorSnapshot[] drawnSnapshots;
+    private int[] drawnDeliveries;
+    @Getter
+    private int numberOfRedrawnElevators;
+
+    public static ConsoleRenderer of(Building building) {
+        return new ConsoleRenderer(building, new FileOutputStream(FileDescriptor.out));
+    }
+
+    public static ConsoleRenderer of(Building building, OutputStream out) {
+        return new ConsoleRenderer(building, out);
+    }
+
+    private ConsoleRenderer(Building building, OutputStream out) {
+        checkNotNull(building);
+        checkNotNull(out);
+
+        this.building = building;
+        this.out = out;
+        this.frame = new byte[4096];
+        this.drawnSnapshots = new ElevatorSnapshot[0];
+        this.drawnDeliveries = new int[0];
+    }
+
+    @SneakyThrows
+    public void render() {
+        BuildingSnapshot buildingSnapshot = building.snapshot();
+        List<Elevator> elevators = building.getElevators();
+        boolean isFullFrame = drawnSnapshots.length != elevators.size();
+
+        frameSize = 0;
+        if (isFullFrame) {
+            drawnSnapshots = new ElevatorSnapshot[elevators.size()];
+            drawnDeliveries = new int[elevators.size()];
+            append(ESCAPE).append("[2J");
+        }
+
+        Storage storage = building.getStorage();
+        moveTo(1).append("Delivered: ").append(storage.getNumberOfDeliveredPeople()).clearLine();
+        moveTo(2).append("Generated: ").append(storage.getNumberOfGeneratedPeople()).clearLine();
+        moveTo(3).append("Floors passed: ").append(storage.getNumberOfPassedFloors()).clearLine();
+        moveTo(4).append("Balked: ").append(storage.getNumberOfBalkedPeople())
+                .append(", stairs: ").append(storage.getNumberOfPeopleOnStairs()).clearLine();
+
+        numberOfRedrawnElevators = 0;
+        for (int i = 0; i < elevators.size(); i++) {
+            Elevator elevator = elevators.get(i);
+            ElevatorSnapshot snapshot = buildingSnapshot.getElevator(i);
+            int delivered = elevator.getNumberOfDeliveredPeople().get();
+
+            if (snapshot != drawnSnapshots[i] || delivered != drawnDeliveries[i]) {
+                drawElevator(i, elevator.getNumber(), snapshot, delivered);
+                drawnSnapshots[i] = snapshot;
+                drawnDeliveries[i] = delivered;
+                numberOfRedrawnElevators++;
+            }
+        }
+        moveTo(HEADER_ROWS + elevators.size() + 1);
+
+        out.write(frame, 0, frameSize);
+        out.flush();
+    }
+
+    private void drawElevator(int row, int number, ElevatorSnapshot snapshot, int delivered) {
+        moveTo(HEADER_ROWS + row + 1)
+                .append("Elevator ").append(number)
+                .append(": Current floor=").append(snapshot.getCurrentFloorNumber())
+                .append(": Free space=").append(snapshot.getFreeCapacity())
+                .append("; Passengers size=").append(snapshot.getNumberOfPassengers())
+                .append("; Number of delivered people=").append(delivered)
+                .append(": State=").append(snapshot.getElevatorState().name())
+                .append("; Direction=").append(snapshot.getDirectionOfTravel().name())
+                .clearLine();
+    }
+
+    private ConsoleRenderer moveTo(int row) {
+        return append(ESCAPE).append('[').append(row).append(";1H");
+    }
+
+    private ConsoleRenderer clearLine() {
+        return append(ESCAPE).append("[K");
+    }
+
+    private ConsoleRenderer append(String text) {
+        ensureCapacity(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            frame[frameSize++] = (byte) text.charAt(i);
+        }
+
+        return this;
+    }
+
+    private ConsoleRenderer append(char symbol) {
+        return append((byte) symbol);
+    }
+
+    private ConsoleRenderer append(byte symbol) {
+        ensureCapacity(1);
+        frame[frameSize++] = symbol;
+
+        return this;
+    }
+
+    // digits are written straight into the frame so counters do not allocate strings
+    private ConsoleRenderer append(long value) {
+        ensureCapacity(20);
+        if (value < 0) {
+            frame[frameSize++] = '-';
+            value = -value;
+        }
+
+        int start = frameSize;
+        do {
+            frame[frameSize++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+
+        for (int i = start, j = frameSize - 1; i < j; i++, j--) {
+            byte digit = frame[i];
+            frame[i] = frame[j];
+            frame[j] = digit;
+        }
+
+        return this;
+    }
+
+    private void ensureCapacity(int length) {
+        if (frameSize + length > frame.length) {
+            frame = Arrays.copyOf(frame, Math.max(frame.length * 2, frameSize + length));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package pinchuk.dmitriy.issoft.domain.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT * 2;
+    private static final int NUMBER_OF_BUCKETS = LINEAR_LIMIT + (Long.SIZE - 1 - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts;
+    private final AtomicLong totalCount;
+    private final AtomicLong totalValue;
+    private final AtomicLong maxValue;
+
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(NUMBER_OF_BUCKETS);
+        this.totalCount = new AtomicLong();
+        this.totalValue = new AtomicLong();
+        this.maxValue = new AtomicLong();
+    }
+
+    public void record(long value) {
+        checkArgument(value >= 0);
+
+        counts.incrementAndGet(indexOf(value));
+        totalCount.incrementAndGet();
+        totalValue.addAndGet(value);
+        maxValue.accumulateAndGet(value, Math::max);
+    }
+
+    public void add(LatencyHistogram other) {
+        checkNotNull(other);
+
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            long count = other.counts.get(i);
+            if (count != 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        totalValue.addAndGet(other.totalValue.get());
+        maxValue.accumulateAndGet(other.maxValue.get(), Math::max);
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    public double getMean() {
+        long count = totalCount.get();
+
+        return count == 0 ? 0 : (double) totalValue.get() / count;
+    }
+
+    public long getTotalValue() {
+        return totalValue.get();
+    }
+
+    public long getMaxValue() {
+        return maxValue.get();
+    }
+
+    public long getValueAtPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100);
+
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            seen += counts.get(i);
+
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), maxValue.get());
+            }
+        }
+
+        return maxValue.get();
+    }
+
+    // one pass over the buckets for several ascending percentiles, for callers that report a whole summary at once
+    public long[] getValuesAtPercentiles(double... percentiles) {
+        long[] values = new long[percentiles.length];
+        long count = totalCount.get();
+        long max = maxValue.get();
+        long seen = 0;
+        int bucket = 0;
+
+        for (int i = 0; i < percentiles.length; i++) {
+            checkArgument(percentiles[i] >= 0 && percentiles[i] <= 100);
+            checkArgument(i == 0 || percentiles[i] >= percentiles[i - 1], "percentiles are not in ascending order");
+
+            if (count == 0) {
+                continue;
+            }
+
+            long rank = Math.max(1, (long) Math.ceil(percentiles[i] / 100 * count));
+            while (bucket < NUMBER_OF_BUCKETS) {
+                long bucketCount = counts.get(bucket);
+                if (seen + bucketCount >= rank) {
+                    break;
+                }
+                seen += bucketCount;
+                bucket++;
+            }
+            values[i] = bucket < NUMBER_OF_BUCKETS ? Math.min(highestValueOf(bucket), max) : max;
+        }
+
+        return values;
+    }
+
+    public void reset() {
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        totalValue.set(0);
+        maxValue.set(0);
+    }
+
+    // exact below LINEAR_LIMIT, then SUB_BUCKET_COUNT buckets per power of two (under 2% relative error)
+    private static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+
+        return LINEAR_LIMIT + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    private static long highestValueOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+
+        int exponent = (index - LINEAR_LIMIT) / SUB_BUCKET_COUNT + SUB_BUCKET_BITS + 1;
+        long subBucket = (index - LINEAR_LIMIT) % SUB_BUCKET_COUNT;
+        long lowestValue = (1L << exponent) + (subBucket << (exponent - SUB_BUCKET_BITS));
+
+        return lowestValue + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("(Count:%d; p50:%d; p95:%d; p99:%d; Max:%d)", getCount(),
+                getValueAtPercentile(50), getValueAtPercentile(95), getValueAtPercentile(99), getMaxValue());
+    }
+}
@@ -3,8 +3,8 @@ package pinchuk.dmitriy.issoft.domain.util;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
-import pinchuk.dmitriy.issoft.domain.buildings.DirectionOfTravel;
 import pinchuk.dmitriy.issoft.domain.buildings.Floor;
+import pinchuk.dmitriy.issoft.domain.buildings.OverflowPolicy;
 import pinchuk.dmitriy.issoft.domain.people.Person;
 
 import java.util.Random;
@@ -18,12 +18,13 @@ public class PeopleSpawn extends Thread {
 
    private static int MIN_WEIGHT_OF_PERSON = 10;
     private static int MAX_WEIGHT_OF_PERSON = 180;
-    private static int TIMEOUT_BETWEEN_GENERATE_PEOPLE = 20;
+    public static int TIMEOUT_BETWEEN_GENERATE_PEOPLE = 20;
     private static int DEFAULT_INTENSITY = 1;
 
     private int intensity;
     private final Floor floor;
     private boolean isWorking = true;
+    private Person blockedPerson;
 
     private final Random random;
     public static PeopleSpawn of(Floor floor) {
@@ -53,48 +54,48 @@ public class PeopleSpawn extends Thread {
 
     @SneakyThrows
     public void generatePeople() {
+        spawnPeople();
 
-        for (int i = 1; i <= intensity; i++) {
+        floor.getBuilding().getClock().sleep(TimeUnit.SECONDS, TIMEOUT_BETWEEN_GENERATE_PEOPLE);
+    }
 
-            int randomFloorNumber = randomNeededFloor();
+    public void spawnPeople() {
 
-            if (this.floor.getNumberOfFloor() != randomFloorNumber) {
-                addPerson(randomFloorNumber);
+        // a blocked spawner holds its person back until the lobby has room again
+        if (blockedPerson != null) {
+            if (!floor.offerPerson(blockedPerson)) {
+                return;
             }
-
+            blockedPerson = null;
         }
 
-        TimeUnit.SECONDS.sleep(TIMEOUT_BETWEEN_GENERATE_PEOPLE);
-    }
-
-    public void addPerson(int randomFloorNumber) {
-
-        Person person = Person.of(randomWeight(), this.floor, randomFloorNumber);
-        DirectionOfTravel direction = person.getTrip().getDirection();
-
-        floor.getFloorLock().lock();
+        for (int i = 1; i <= intensity; i++) {
 
-        if (direction == DirectionOfTravel.DOWN) {
+            int randomFloorNumber = randomNeededFloor();
 
-            if(floor.getDownQueue().isEmpty()) {
-                person.pushButton();
+            if (this.floor.getNumberOfFloor() != randomFloorNumber && !addPerson(randomFloorNumber)
+                    && floor.getOverflowPolicy() == OverflowPolicy.BLOCK) {
+                return;
             }
 
-            this.floor.getDownQueue().add(person);
         }
 
-        if (direction == DirectionOfTravel.UP) {
+    }
 
-            if(floor.getUpQueue().isEmpty()) {
-                person.pushButton();
-            }
+    public boolean addPerson(int randomFloorNumber) {
 
-            this.floor.getUpQueue().add(person);
+        Person person = floor.getBuilding().getPersonPool().acquire(randomWeight(), this.floor, randomFloorNumber);
+        floor.getBuilding().getStorage().incrementNumberOfGeneratedPeople(floor.getNumberOfFloor());
+
+        if (floor.offerPerson(person)) {
+            return true;
         }
 
-        Storage.getInstance().incrementNumberOfGeneratedPeople();
+        if (floor.getOverflowPolicy() == OverflowPolicy.BLOCK) {
+            blockedPerson = person;
+        }
 
-        floor.getFloorLock().unlock();
+        return false;
     }
 
     public void pause() {
@@ -110,7 +111,11 @@ public class PeopleSpawn extends Thread {
     }
 
     private int randomNeededFloor() {
-        return (int) (Math.random() * (floor.getBuilding().getNumberOfFloors()-1));
+        return (int) (random.nextDouble() * (floor.getBuilding().getNumberOfFloors()-1));
+    }
+
+    public void setSeed(long seed) {
+        random.setSeed(seed);
     }
 
     public void setIntensity(int intensity) {
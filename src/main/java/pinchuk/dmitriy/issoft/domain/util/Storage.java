@@ -1,69 +1,162 @@
 package pinchuk.dmitriy.issoft.domain.util;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
 
 public class Storage {
 
-    private static volatile Storage instance;
+    private final LongAdder numberOfDeliveredPeople;
+    private final LongAdder numberOfGeneratedPeople;
+    private final LongAdder numberOfPassedFloors;
+    private final LongAdder numberOfBalkedPeople;
+    private final LongAdder numberOfPeopleOnStairs;
+
+    private final LongAdder[] deliveredPeopleByElevator;
+    private final LongAdder[] passedFloorsByElevator;
+    private final LongAdder[] generatedPeopleByFloor;
+    private final LongAdder[] deliveredPeopleByFloor;
+    private final LongAdder[] balkedPeopleByFloor;
+    private final LongAdder[] peopleOnStairsByFloor;
+
+    public Storage(int numberOfElevators, int numberOfFloors) {
+        checkArgument(numberOfElevators >= 0);
+        checkArgument(numberOfFloors >= 0);
+
+        numberOfDeliveredPeople = new LongAdder();
+        numberOfGeneratedPeople = new LongAdder();
+        numberOfPassedFloors = new LongAdder();
+        numberOfBalkedPeople = new LongAdder();
+        numberOfPeopleOnStairs = new LongAdder();
+        deliveredPeopleByElevator = countersOf(numberOfElevators);
+        passedFloorsByElevator = countersOf(numberOfElevators);
+        generatedPeopleByFloor = countersOf(numberOfFloors);
+        deliveredPeopleByFloor = countersOf(numberOfFloors);
+        balkedPeopleByFloor = countersOf(numberOfFloors);
+        peopleOnStairsByFloor = countersOf(numberOfFloors);
+    }
 
-    private final AtomicInteger numberOfDeliveredPeople;
-    private final AtomicInteger numberOfGeneratedPeople;
-    private final AtomicInteger numberOfPassedFloors;
+    public void restart() {
+        numberOfDeliveredPeople.reset();
+        numberOfGeneratedPeople.reset();
+        numberOfPassedFloors.reset();
+        numberOfBalkedPeople.reset();
+        numberOfPeopleOnStairs.reset();
+        resetAll(deliveredPeopleByElevator);
+        resetAll(passedFloorsByElevator);
+        resetAll(generatedPeopleByFloor);
+        resetAll(deliveredPeopleByFloor);
+        resetAll(balkedPeopleByFloor);
+        resetAll(peopleOnStairsByFloor);
+    }
 
-    private Storage() {
-        numberOfDeliveredPeople = new AtomicInteger(0);
-        numberOfGeneratedPeople = new AtomicInteger(0);
-        numberOfPassedFloors = new AtomicInteger(0);
+    public void add(Storage other) {
+        checkNotNull(other);
+
+        numberOfDeliveredPeople.add(other.getNumberOfDeliveredPeople());
+        numberOfGeneratedPeople.add(other.getNumberOfGeneratedPeople());
+        numberOfPassedFloors.add(other.getNumberOfPassedFloors());
+        numberOfBalkedPeople.add(other.getNumberOfBalkedPeople());
+        numberOfPeopleOnStairs.add(other.getNumberOfPeopleOnStairs());
+        addAll(deliveredPeopleByElevator, other.deliveredPeopleByElevator);
+        addAll(passedFloorsByElevator, other.passedFloorsByElevator);
+        addAll(generatedPeopleByFloor, other.generatedPeopleByFloor);
+        addAll(deliveredPeopleByFloor, other.deliveredPeopleByFloor);
+        addAll(balkedPeopleByFloor, other.balkedPeopleByFloor);
+        addAll(peopleOnStairsByFloor, other.peopleOnStairsByFloor);
     }
 
-    public static Storage getInstance() {
-        Storage localInstance = instance;
+    public void incrementNumberOfDeliveredPeople(int elevatorNumber, int floorNumber) {
+        numberOfDeliveredPeople.increment();
+        deliveredPeopleByElevator[elevatorNumber].increment();
+        deliveredPeopleByFloor[floorNumber].increment();
+    }
 
-        if (localInstance == null) {
+    public void incrementNumberOfGeneratedPeople(int floorNumber) {
+        numberOfGeneratedPeople.increment();
+        generatedPeopleByFloor[floorNumber].increment();
+    }
 
-            synchronized (Storage.class) {
-                localInstance = instance;
+    public void incrementNumberOfPassedFloors(int elevatorNumber) {
+        numberOfPassedFloors.increment();
+        passedFloorsByElevator[elevatorNumber].increment();
+    }
 
-                if (localInstance == null) {
-                    instance = new Storage();
-                    localInstance = instance;
-                }
+    public void incrementNumberOfBalkedPeople(int floorNumber) {
+        numberOfBalkedPeople.increment();
+        balkedPeopleByFloor[floorNumber].increment();
+    }
 
-            }
+    public void incrementNumberOfPeopleOnStairs(int floorNumber) {
+        numberOfPeopleOnStairs.increment();
+        peopleOnStairsByFloor[floorNumber].increment();
+    }
 
-        }
+    public long getNumberOfDeliveredPeople() {
+        return numberOfDeliveredPeople.sum();
+    }
 
-        return localInstance;
+    public long getNumberOfGeneratedPeople() {
+        return numberOfGeneratedPeople.sum();
     }
 
-    public void restart() {
-        numberOfDeliveredPeople.set(0);
-        numberOfGeneratedPeople.set(0);
-        numberOfPassedFloors.set(0);
+    public long getNumberOfPassedFloors() {
+        return numberOfPassedFloors.sum();
+    }
+
+    public long getNumberOfBalkedPeople() {
+        return numberOfBalkedPeople.sum();
+    }
+
+    public long getNumberOfPeopleOnStairs() {
+        return numberOfPeopleOnStairs.sum();
     }
 
-    public void incrementNumberOfDeliveredPeople() {
-        numberOfDeliveredPeople.incrementAndGet();
+    public long getNumberOfDeliveredPeopleByElevator(int elevatorNumber) {
+        return deliveredPeopleByElevator[elevatorNumber].sum();
     }
 
-    public void incrementNumberOfGeneratedPeople() {
-        numberOfGeneratedPeople.incrementAndGet();
+    public long getNumberOfPassedFloorsByElevator(int elevatorNumber) {
+        return passedFloorsByElevator[elevatorNumber].sum();
     }
 
-    public void incrementNumberOfPassedFloors() {
-        numberOfPassedFloors.incrementAndGet();
+    public long getNumberOfGeneratedPeopleOnFloor(int floorNumber) {
+        return generatedPeopleByFloor[floorNumber].sum();
     }
 
-    public int getNumberOfDeliveredPeople() {
-        return numberOfDeliveredPeople.get();
+    public long getNumberOfDeliveredPeopleToFloor(int floorNumber) {
+        return deliveredPeopleByFloor[floorNumber].sum();
     }
 
-    public int getNumberOfGeneratedPeople() {
-        return numberOfGeneratedPeople.get();
+    public long getNumberOfBalkedPeopleOnFloor(int floorNumber) {
+        return balkedPeopleByFloor[floorNumber].sum();
     }
 
-    public int getNumberOfPassedFloors() {
-        return numberOfPassedFloors.get();
+    public long getNumberOfPeopleOnStairsFromFloor(int floorNumber) {
+        return peopleOnStairsByFloor[floorNumber].sum();
+    }
+
+    private static LongAdder[] countersOf(int size) {
+        LongAdder[] counters = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            counters[i] = new LongAdder();
+        }
+
+        return counters;
     }
 
+    private static void resetAll(LongAdder[] counters) {
+        for (LongAdder counter : counters) {
+            counter.reset();
+        }
+    }
+
+    private static void addAll(LongAdder[] counters, LongAdder[] otherCounters) {
+        checkArgument(otherCounters.length <= counters.length);
+
+        for (int i = 0; i < otherCounters.length; i++) {
+            counters[i].add(otherCounters[i].sum());
+        }
+    }
 }
@@ -5,10 +5,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import pinchuk.dmitriy.issoft.buildings.samples.BuildingSamples;
 import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.BuildingSnapshot;
 import pinchuk.dmitriy.issoft.domain.buildings.Controller;
 import pinchuk.dmitriy.issoft.domain.buildings.DirectionOfTravel;
+import pinchuk.dmitriy.issoft.domain.buildings.Elevator;
+import pinchuk.dmitriy.issoft.domain.buildings.Trip;
+import pinchuk.dmitriy.issoft.domain.people.Person;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import static junit.framework.Assert.*;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -99,14 +105,81 @@ public class BuildingTest {
     @SneakyThrows
     @Test
     void deliverPeople() {
+        int numberOfPeople = building.getFloors().stream().mapToInt(i -> i.getNumberOfPeople(DirectionOfTravel.UP)
+                + i.getNumberOfPeople(DirectionOfTravel.DOWN)).sum();
+
         building.startAllElevators();
         building.startAllPeopleSpawn();
         building.startController();
-
-        int numberOfPeople = building.getFloors().stream().mapToInt(i -> i.getNumberOfPeople(DirectionOfTravel.UP)
-                + i.getNumberOfPeople(DirectionOfTravel.DOWN)).sum();
         TimeUnit.SECONDS.sleep(40);
 
         assertTrue(numberOfPeople == 0);
+        assertTrue(building.getStorage().getNumberOfDeliveredPeople() > 0);
+    }
+
+    @Test
+    void reuseSnapshotUntilSomethingChanges() {
+        BuildingSnapshot snapshot = building.snapshot();
+
+        assertSame(snapshot, building.snapshot());
+
+        building.getElevators().get(1).setCurrentFloorNumber(new AtomicInteger(4));
+        BuildingSnapshot changed = building.snapshot();
+
+        assertNotSame(snapshot, changed);
+        assertSame(changed, building.snapshot());
+        assertEquals(4, changed.getElevator(1).getCurrentFloorNumber());
+        assertEquals(0, snapshot.getElevator(1).getCurrentFloorNumber());
+    }
+
+    @Test
+    void snapshotQueuesAndHallCalls() {
+        Person person = Person.of(50, building.getFloorWithIndex(2), 6);
+        building.getFloorWithIndex(2).addPerson(person);
+
+        BuildingSnapshot snapshot = building.snapshot();
+
+        assertEquals(10, snapshot.getNumberOfFloors());
+        assertEquals(1, snapshot.getNumberOfPeopleGoingUp(2));
+        assertEquals(0, snapshot.getNumberOfPeopleGoingDown(2));
+        assertEquals(1, snapshot.getNumberOfWaitingPeople());
+        assertEquals(List.of(Trip.of(2, DirectionOfTravel.UP)), snapshot.getHallCalls());
+
+        building.getFloorWithIndex(2).pollFirstPerson(DirectionOfTravel.UP);
+        building.getController().removeTrip(Trip.of(2, DirectionOfTravel.UP));
+
+        assertEquals(0, building.snapshot().getNumberOfWaitingPeople());
+        assertTrue(building.snapshot().getHallCalls().isEmpty());
+        assertEquals(1, snapshot.getNumberOfWaitingPeople(2));
+    }
+
+    @Test
+    void neverSnapshotTornState() throws InterruptedException {
+        Building building = Building.of(1, 10, 64, "address").setController(new Controller());
+        Elevator first = building.getElevators().get(0);
+        Elevator last = building.getElevators().get(63);
+        Thread writer = new Thread(() -> {
+            for (int floor = 0; !Thread.currentThread().isInterrupted(); floor = (floor + 1) % 10) {
+                first.setCurrentFloorNumber(new AtomicInteger(floor));
+                last.setCurrentFloorNumber(new AtomicInteger(floor));
+            }
+        });
+        writer.start();
+
+        for (int i = 0; i < 100_000; i++) {
+            BuildingSnapshot snapshot = building.snapshot();
+            int firstFloor = snapshot.getElevator(0).getCurrentFloorNumber();
+            int lastFloor = snapshot.getElevator(63).getCurrentFloorNumber();
+
+            assertTrue(firstFloor == lastFloor || firstFloor == (lastFloor + 1) % 10);
+        }
+
+        writer.interrupt();
+        writer.join();
+    }
+
+    @Test
+    void snapshotInvalidFloor() {
+        assertThrows(IndexOutOfBoundsException.class, () -> building.snapshot().getNumberOfPeopleGoingUp(10));
     }
 }
@@ -138,6 +138,86 @@ public class ControllerTest {
         assertFalse(building.getElevators().get(1).getTrips().contains(trip));
     }
 
+    @Test
+    void sendTripToElevatorMovingTowardsCaller() {
+        Trip trip = Trip.of(8, 3);
+
+        building.getElevators().get(1).setCurrentFloorNumber(new AtomicInteger(4));
+        building.getElevators().get(1).goUp();
+
+        building.getController().addTrip(trip);
+        building.getController().sendTrip();
+
+        assertFalse(building.getController().getAllTrips().contains(trip));
+        assertTrue(building.getElevators().get(1).getTrips().contains(trip));
+        assertFalse(building.getElevators().get(0).getTrips().contains(trip));
+    }
+
+    @Test
+    void setNullDispatchStrategy() {
+        assertThrows(NullPointerException.class, () -> building.getController().setDispatchStrategy(null));
+    }
+
+    @Test
+    void parkedTripIsSentWhenElevatorBecomesAvailable() {
+        AtomicInteger firstFloor = new AtomicInteger(5);
+        AtomicInteger secondFloor = new AtomicInteger(1);
+
+        building.getElevators().get(0).setCurrentFloorNumber(firstFloor);
+        building.getElevators().get(1).setCurrentFloorNumber(secondFloor);
+
+        building.getElevators().get(0).goUp();
+        building.getElevators().get(1).goUp();
+
+        Trip trip = Trip.of(8, DirectionOfTravel.DOWN);
+        Controller controller = building.getController();
+
+        controller.addTrip(trip);
+        long version = controller.getStateVersion();
+        controller.sendAllTrips();
+
+        assertTrue(controller.getStateVersion() == version);
+        assertTrue(controller.getAllTrips().contains(trip));
+
+        building.getElevators().get(1).park();
+        assertTrue(controller.getStateVersion() != version);
+
+        controller.sendAllTrips();
+
+        assertFalse(controller.getAllTrips().contains(trip));
+        assertTrue(building.getElevators().get(1).getTrips().contains(trip));
+    }
+
+    @Test
+    void waitForChangeReturnsAfterNewTrip() throws InterruptedException {
+        Controller controller = building.getController();
+        controller.unpause();
+        long version = controller.getStateVersion();
+
+        Thread waiter = new Thread(() -> controller.waitForChange(version));
+        waiter.start();
+
+        controller.addTrip(Trip.of(8, 3));
+        waiter.join(1000);
+
+        assertFalse(waiter.isAlive());
+    }
+
+    @Test
+    void pauseWakesUpWaitingController() throws InterruptedException {
+        Controller controller = building.getController();
+        controller.unpause();
+        long version = controller.getStateVersion();
+
+        Thread waiter = new Thread(() -> controller.waitForChange(version));
+        waiter.start();
+
+        controller.pause();
+        waiter.join(1000);
+
+        assertFalse(waiter.isAlive());
+    }
+
     @Test
     void unpause() {
         building.getController().unpause();
@@ -5,8 +5,11 @@ import org.junit.jupiter.api.Test;
 import pinchuk.dmitriy.issoft.buildings.samples.BuildingSamples;
 import pinchuk.dmitriy.issoft.domain.buildings.*;
 import pinchuk.dmitriy.issoft.domain.people.Person;
+import pinchuk.dmitriy.issoft.domain.simulation.SimulationClock;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static junit.framework.Assert.assertFalse;
 import static junit.framework.Assert.assertTrue;
@@ -23,7 +26,7 @@ public class ElevatorTest {
 
     @Test
     void createValidElevator() {
-        Elevator elevator = Elevator.of(100, building);
+        Elevator elevator = Elevator.of(0, building);
         elevator.setLiftingCapacity(100);
 
         assertTrue(elevator.getLiftingCapacity() == 100);
@@ -34,7 +37,7 @@ public class ElevatorTest {
 
     @Test
     void createValidElevatorWithStartFloor() {
-        Elevator elevator = Elevator.of(100, building);
+        Elevator elevator = Elevator.of(0, building);
         elevator.setCurrentFloorNumber(new AtomicInteger(1));
 
         assertTrue(elevator.getCurrentFloorNumber() == 1);
@@ -45,7 +48,7 @@ public class ElevatorTest {
 
     @Test
     void createValidElevatorWithStartSpeed() {
-        Elevator elevator = Elevator.of(100, building);
+        Elevator elevator = Elevator.of(0, building);
         elevator.setDoorSpeed(2);
         elevator.setTravelSpeed(2);
 
@@ -53,6 +56,12 @@ public class ElevatorTest {
         assertTrue(elevator.getTravelSpeed() == 2);
     }
 
+    @Test
+    void createInvalidElevatorOutsideBuilding() {
+        assertThrows(IndexOutOfBoundsException.class, () -> Elevator.of(building.getNumberOfElevators(), building));
+        assertThrows(IndexOutOfBoundsException.class, () -> Elevator.of(-1, building));
+    }
+
     @Test
     void goUp() {
         building.getElevators().get(0).goUp();
@@ -381,6 +390,91 @@ public class ElevatorTest {
         assertTrue(building.getElevators().get(0).getPassengers().contains(thirdPerson));
     }
 
+    @Test
+    void snapshotFollowsMovement() {
+        Elevator elevator = building.getElevators().get(0);
+
+        elevator.goUp();
+        ElevatorSnapshot snapshot = elevator.getSnapshot();
+
+        assertTrue(snapshot.getCurrentFloorNumber() == elevator.getCurrentFloorNumber());
+        assertTrue(snapshot.getDirectionOfTravel() == DirectionOfTravel.UP);
+        assertTrue(snapshot.getElevatorState() == ElevatorState.MOVE);
+
+        elevator.park();
+
+        assertTrue(elevator.getSnapshot().isIdle());
+    }
+
+    @Test
+    void snapshotFollowsLoad() {
+        building = Building.of(5, 10, 1, "address").setController(new Controller());
+        Elevator elevator = building.getElevators().get(0);
+        Person person = Person.of(50, building.getFloorWithIndex(1), 5);
+
+        building.getFloorWithIndex(1).addPerson(person);
+        elevator.takePerson(person);
+
+        assertTrue(elevator.getSnapshot().getFreeCapacity() == elevator.getFreeCapacity());
+
+        elevator.letPeopleGo(person);
+
+        assertTrue(elevator.getSnapshot().getFreeCapacity() == elevator.getLiftingCapacity());
+    }
+
+    @Test
+    void loadCountersFollowBoardingAndAlighting() {
+        building = Building.of(5, 10, 1, "address").setController(new Controller());
+        Elevator elevator = building.getElevators().get(0);
+        Person firstPerson = Person.of(50, building.getFloorWithIndex(1), 5);
+        Person secondPerson = Person.of(70, building.getFloorWithIndex(1), 3);
+
+        building.getFloorWithIndex(1).addPerson(firstPerson);
+        building.getFloorWithIndex(1).addPerson(secondPerson);
+        elevator.takePerson(firstPerson);
+        elevator.takePerson(secondPerson);
+
+        assertTrue(elevator.getPassengersWeight() == 120);
+        assertTrue(elevator.getNumberOfPassengers() == 2);
+        assertTrue(elevator.getFreeCapacity() == elevator.getLiftingCapacity() - 120);
+        assertTrue(elevator.getSnapshot().getNumberOfPassengers() == 2);
+
+        elevator.letPeopleGo(secondPerson);
+
+        assertTrue(elevator.getPassengersWeight() == 50);
+        assertTrue(elevator.getNumberOfPassengers() == 1);
+        assertTrue(elevator.getSnapshot().getFreeCapacity() == elevator.getLiftingCapacity() - 50);
+    }
+
+    @Test
+    void boardLobbyPeakInOneBatch() {
+        AtomicLong sleptSeconds = new AtomicLong();
+        building = Building.of(5, 10, 1, "address").setController(new Controller()).setClock(new SimulationClock() {
+
+            @Override
+            public long currentTimeMillis() {
+                return TimeUnit.SECONDS.toMillis(sleptSeconds.get());
+            }
+
+            @Override
+            public void sleep(TimeUnit unit, long duration) {
+                sleptSeconds.addAndGet(unit.toSeconds(duration));
+            }
+        });
+        Elevator elevator = building.getElevators().get(0);
+        elevator.setLiftingCapacity(25 * Person.MAX_WEIGHT);
+
+        for (int i = 0; i < 25; i++) {
+            building.getFloorWithIndex(0).addPerson(Person.of(70, building.getFloorWithIndex(0), 1 + i % 9));
+        }
+        elevator.addPeople();
+
+        assertTrue(elevator.getNumberOfPassengers() == 25);
+        assertTrue(building.getFloorWithIndex(0).getNumberOfPeople(DirectionOfTravel.UP) == 0);
+        assertTrue(elevator.getTrips().size() == 9);
+        assertTrue(sleptSeconds.get() == elevator.getBoardingTime());
+    }
+
     @Test
     void unpause() {
         building = Building.of(5, 10, 1, "address").setController(new Controller());
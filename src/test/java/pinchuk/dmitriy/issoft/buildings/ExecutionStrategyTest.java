@@ -0,0 +1,70 @@
+package pinchuk.dmitriy.issoft.buildings;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.Controller;
+import pinchuk.dmitriy.issoft.domain.buildings.ExecutionStrategy;
+import pinchuk.dmitriy.issoft.domain.people.Person;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ExecutionStrategyTest {
+
+    @SneakyThrows
+    @Test
+    void startOnPlatformThread() {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Thread thread = ExecutionStrategy.PLATFORM_THREADS.start(latch::countDown, "platform");
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(thread.getName().equals("platform"));
+    }
+
+    @SneakyThrows
+    @Test
+    void startOnVirtualThread() {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Thread thread = ExecutionStrategy.VIRTUAL_THREADS.start(latch::countDown, "virtual");
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(thread.getName().equals("virtual"));
+    }
+
+    @Test
+    void startNullTask() {
+        assertThrows(NullPointerException.class, () -> ExecutionStrategy.VIRTUAL_THREADS.start(null, "virtual"));
+    }
+
+    @Test
+    void setNullExecutionStrategy() {
+        Building building = Building.of(1, 10, 1, "address");
+
+        assertThrows(NullPointerException.class, () -> building.setExecutionStrategy(null));
+    }
+
+    @SneakyThrows
+    @Test
+    void deliverPersonOnVirtualThreads() {
+        Building building = Building.of(1, 10, 1, "address")
+                .setController(new Controller())
+                .setExecutionStrategy(ExecutionStrategy.VIRTUAL_THREADS);
+
+        building.startAllElevators();
+        building.startController();
+        building.getFloorWithIndex(1).addPerson(Person.of(50, building.getFloorWithIndex(1), 2));
+
+        for (int i = 0; i < 30 && building.getElevators().get(0).getNumberOfDeliveredPeople().get() == 0; i++) {
+            TimeUnit.SECONDS.sleep(1);
+        }
+
+        assertTrue(building.getElevators().get(0).getNumberOfDeliveredPeople().get() == 1);
+        building.stop();
+    }
+}
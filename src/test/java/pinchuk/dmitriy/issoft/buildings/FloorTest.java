@@ -7,9 +7,12 @@ import pinchuk.dmitriy.issoft.buildings.samples.FloorSamples;
 import pinchuk.dmitriy.issoft.domain.buildings.Building;
 import pinchuk.dmitriy.issoft.domain.buildings.DirectionOfTravel;
 import pinchuk.dmitriy.issoft.domain.buildings.Floor;
+import pinchuk.dmitriy.issoft.domain.buildings.OverflowPolicy;
 import pinchuk.dmitriy.issoft.domain.buildings.Trip;
 import pinchuk.dmitriy.issoft.domain.people.Person;
 
+import java.util.List;
+
 import static junit.framework.Assert.*;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -292,4 +295,84 @@ public class FloorTest {
 
         assertTrue(building.getController().getAllTrips().contains(Trip.of(floor.getNumberOfFloor(), direction)));
     }
+
+    @Test
+    void rejectPersonFromFullQueue() {
+        Floor floor = building.getFloorWithIndex(1);
+        building.setQueueCapacity(1).setOverflowPolicy(OverflowPolicy.REJECT);
+
+        assertTrue(floor.addPerson(Person.of(50, floor, 2)));
+        assertFalse(floor.addPerson(Person.of(50, floor, 3)));
+
+        assertEquals(1, floor.getNumberOfPeople(DirectionOfTravel.UP));
+        assertEquals(1, building.getStorage().getNumberOfBalkedPeople());
+        assertEquals(1, building.getStorage().getNumberOfBalkedPeopleOnFloor(1));
+    }
+
+    @Test
+    void holdPersonBackFromFullQueue() {
+        Floor floor = building.getFloorWithIndex(1);
+        building.setQueueCapacity(1).setOverflowPolicy(OverflowPolicy.BLOCK);
+        Person blockedPerson = Person.of(50, floor, 3);
+
+        assertTrue(floor.addPerson(Person.of(50, floor, 2)));
+        assertFalse(floor.offerPerson(blockedPerson));
+        assertThrows(IllegalStateException.class, () -> floor.addPerson(blockedPerson));
+
+        assertEquals(1, floor.getNumberOfPeople(DirectionOfTravel.UP));
+        assertEquals(3, blockedPerson.getNeededFloor());
+        assertEquals(0, building.getStorage().getNumberOfBalkedPeople());
+        assertEquals(0, building.getStorage().getNumberOfPeopleOnStairs());
+    }
+
+    @Test
+    void shrinkQueueBelowWaitingPeople() throws InterruptedException {
+        Floor floor = building.getFloorWithIndex(1);
+        Person firstPerson = Person.of(50, floor, 2);
+        floor.addPerson(firstPerson);
+        floor.addPerson(Person.of(50, floor, 3));
+
+        assertThrows(IllegalArgumentException.class, () -> floor.setQueueCapacity(1));
+        assertThrows(IllegalArgumentException.class, () -> building.setQueueCapacity(1));
+
+        Thread poller = new Thread(() -> floor.pollFirstPerson(DirectionOfTravel.UP));
+        poller.start();
+        poller.join(1000);
+
+        assertFalse(poller.isAlive());
+        assertEquals(1, floor.getNumberOfPeople(DirectionOfTravel.UP));
+        assertEquals(Floor.DEFAULT_QUEUE_CAPACITY, floor.getUpQueue().getCapacity());
+        assertEquals(Floor.DEFAULT_QUEUE_CAPACITY, building.getFloorWithIndex(0).getUpQueue().getCapacity());
+    }
+
+    @Test
+    void sendPersonFromFullQueueToStairs() {
+        Floor floor = building.getFloorWithIndex(1);
+        building.setQueueCapacity(1).setOverflowPolicy(OverflowPolicy.STAIRS);
+
+        floor.addPerson(Person.of(50, floor, 2));
+        floor.addPerson(Person.of(50, floor, 3));
+
+        assertEquals(0, building.getStorage().getNumberOfBalkedPeople());
+        assertEquals(1, building.getStorage().getNumberOfPeopleOnStairs());
+        assertEquals(1, building.getStorage().getNumberOfPeopleOnStairsFromFloor(1));
+    }
+
+    @Test
+    void pollPeopleUpToFreeCapacity() {
+        Floor floor = building.getFloorWithIndex(1);
+        Person firstPerson = Person.of(50, floor, 2);
+        Person secondPerson = Person.of(60, floor, 3);
+        Person thirdPerson = Person.of(70, floor, 4);
+        Person fourthPerson = Person.of(10, floor, 5);
+
+        floor.addPerson(firstPerson);
+        floor.addPerson(secondPerson);
+        floor.addPerson(thirdPerson);
+        floor.addPerson(fourthPerson);
+
+        assertEquals(List.of(firstPerson, secondPerson), floor.pollPeople(DirectionOfTravel.UP, 150));
+        assertEquals(thirdPerson, floor.getFirstPerson(DirectionOfTravel.UP));
+        assertTrue(floor.pollPeople(DirectionOfTravel.DOWN, 150).isEmpty());
+    }
 }
@@ -0,0 +1,99 @@
+package pinchuk.dmitriy.issoft.buildings;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pinchuk.dmitriy.issoft.domain.buildings.DirectionOfTravel;
+import pinchuk.dmitriy.issoft.domain.buildings.HallCallIndex;
+import pinchuk.dmitriy.issoft.domain.buildings.Trip;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HallCallIndexTest {
+
+    private HallCallIndex calls;
+
+    @BeforeEach
+    void init() {
+        calls = new HallCallIndex();
+    }
+
+    @Test
+    void addAndRemoveCall() {
+        Trip trip = Trip.of(5, DirectionOfTravel.UP);
+
+        assertTrue(calls.add(trip));
+        assertTrue(calls.contains(trip));
+        assertFalse(calls.contains(Trip.of(5, DirectionOfTravel.DOWN)));
+
+        assertTrue(calls.remove(trip));
+        assertFalse(calls.contains(trip));
+        assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    void duplicateCallIsStoredOnce() {
+        calls.add(Trip.of(5, DirectionOfTravel.UP));
+
+        assertFalse(calls.add(Trip.of(5, DirectionOfTravel.UP)));
+        assertEquals(1, calls.size());
+    }
+
+    @Test
+    void addCallWithoutDirection() {
+        assertThrows(IllegalArgumentException.class, () -> calls.add(Trip.of(5, DirectionOfTravel.NONE)));
+    }
+
+    @Test
+    void findNearestCalls() {
+        calls.add(Trip.of(2, DirectionOfTravel.UP));
+        calls.add(Trip.of(7, DirectionOfTravel.UP));
+        calls.add(Trip.of(9, DirectionOfTravel.DOWN));
+
+        assertEquals(7, calls.nearestCallAbove(4, DirectionOfTravel.UP));
+        assertEquals(9, calls.nearestCallAbove(4, DirectionOfTravel.DOWN));
+        assertEquals(2, calls.nearestCallBelow(4, DirectionOfTravel.UP));
+        assertEquals(HallCallIndex.NO_CALL, calls.nearestCallBelow(4, DirectionOfTravel.DOWN));
+        assertEquals(HallCallIndex.NO_CALL, calls.nearestCallAbove(9, DirectionOfTravel.DOWN));
+    }
+
+    @Test
+    void pollVisitsEveryCallInTurn() {
+        calls.add(Trip.of(3, DirectionOfTravel.DOWN));
+        calls.add(Trip.of(1, DirectionOfTravel.UP));
+        calls.add(Trip.of(3, DirectionOfTravel.UP));
+
+        Trip first = calls.poll();
+        calls.add(first);
+        Trip second = calls.poll();
+        calls.add(second);
+        Trip third = calls.poll();
+        calls.add(third);
+
+        assertEquals(Trip.of(1, DirectionOfTravel.UP), first);
+        assertEquals(Trip.of(3, DirectionOfTravel.UP), second);
+        assertEquals(Trip.of(3, DirectionOfTravel.DOWN), third);
+        assertEquals(Trip.of(1, DirectionOfTravel.UP), calls.poll());
+    }
+
+    @Test
+    void pollFromEmptyIndex() {
+        assertNull(calls.poll());
+    }
+
+    @Test
+    void iterateAndRemoveCalls() {
+        calls.add(Trip.of(4, DirectionOfTravel.DOWN));
+        calls.add(Trip.of(0, DirectionOfTravel.UP));
+
+        List<Trip> trips = new ArrayList<>(calls);
+        calls.removeIf(i -> i.getDirection() == DirectionOfTravel.UP);
+
+        assertEquals(List.of(Trip.of(0, DirectionOfTravel.UP), Trip.of(4, DirectionOfTravel.DOWN)), trips);
+        assertEquals(1, calls.size());
+        assertTrue(calls.contains(Trip.of(4, DirectionOfTravel.DOWN)));
+    }
+}
@@ -0,0 +1,88 @@
+package pinchuk.dmitriy.issoft.buildings;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pinchuk.dmitriy.issoft.buildings.samples.BuildingSamples;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.LobbyQueue;
+import pinchuk.dmitriy.issoft.domain.people.Person;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LobbyQueueTest {
+
+    private Building building;
+    private LobbyQueue queue;
+
+    @BeforeEach
+    void init() {
+        building = BuildingSamples.anyValidBuilding();
+        queue = new LobbyQueue(2);
+    }
+
+    @Test
+    void offerUntilFull() {
+        assertTrue(queue.offer(personTo(2)));
+        assertTrue(queue.offer(personTo(3)));
+
+        assertTrue(queue.isFull());
+        assertFalse(queue.offer(personTo(4)));
+        assertEquals(2, queue.size());
+    }
+
+    @Test
+    void pollInArrivalOrderAcrossWrapAround() {
+        Person first = personTo(2);
+        Person second = personTo(3);
+        Person third = personTo(4);
+
+        queue.offer(first);
+        queue.offer(second);
+        assertEquals(first, queue.poll());
+        queue.offer(third);
+
+        assertEquals(second, queue.peek());
+        assertEquals(List.of(second, third), new ArrayList<>(queue));
+        assertEquals(second, queue.poll());
+        assertEquals(third, queue.poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void growCapacityKeepsOrder() {
+        Person first = personTo(2);
+        Person second = personTo(3);
+        Person third = personTo(4);
+
+        queue.offer(first);
+        queue.offer(second);
+        queue.poll();
+        queue.offer(first);
+        queue.setCapacity(3);
+        queue.offer(third);
+
+        assertEquals(3, queue.getCapacity());
+        assertEquals(List.of(second, first, third), new ArrayList<>(queue));
+    }
+
+    @Test
+    void shrinkCapacityBelowSize() {
+        queue.offer(personTo(2));
+        queue.offer(personTo(3));
+
+        assertThrows(IllegalArgumentException.class, () -> queue.setCapacity(1));
+    }
+
+    @Test
+    void createQueueWithoutCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new LobbyQueue(0));
+    }
+
+    private Person personTo(int floor) {
+        return Person.of(50, building.getFloorWithIndex(1), floor);
+    }
+}
@@ -0,0 +1,82 @@
+package pinchuk.dmitriy.issoft.buildings;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pinchuk.dmitriy.issoft.buildings.samples.BuildingSamples;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.PassengerManifest;
+import pinchuk.dmitriy.issoft.domain.people.Person;
+
+import java.util.List;
+
+import static junit.framework.Assert.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PassengerManifestTest {
+
+    private Building building;
+    private PassengerManifest passengers;
+
+    @BeforeEach
+    void init() {
+        building = BuildingSamples.anyValidBuilding();
+        passengers = new PassengerManifest();
+    }
+
+    @Test
+    void addAndRemovePassenger() {
+        Person person = Person.of(50, building.getFloorWithIndex(1), 5);
+
+        passengers.add(person);
+
+        assertTrue(passengers.contains(person));
+        assertTrue(passengers.hasPassengersTo(5));
+        assertEquals(1, passengers.size());
+
+        assertTrue(passengers.remove(person));
+        assertFalse(passengers.contains(person));
+        assertFalse(passengers.hasPassengersTo(5));
+        assertTrue(passengers.isEmpty());
+    }
+
+    @Test
+    void removeMissingPassenger() {
+        assertFalse(passengers.remove(Person.of(50, building.getFloorWithIndex(1), 5)));
+    }
+
+    @Test
+    void addNullPassenger() {
+        assertThrows(NullPointerException.class, () -> passengers.add(null));
+    }
+
+    @Test
+    void drainPassengersToFloor() {
+        Person firstPerson = Person.of(50, building.getFloorWithIndex(1), 5);
+        Person secondPerson = Person.of(60, building.getFloorWithIndex(2), 5);
+        Person thirdPerson = Person.of(70, building.getFloorWithIndex(1), 3);
+
+        passengers.add(firstPerson);
+        passengers.add(secondPerson);
+        passengers.add(thirdPerson);
+
+        List<Person> drained = passengers.drainPassengersTo(5);
+
+        assertEquals(List.of(firstPerson, secondPerson), drained);
+        assertEquals(1, passengers.size());
+        assertTrue(passengers.contains(thirdPerson));
+        assertTrue(passengers.drainPassengersTo(5).isEmpty());
+    }
+
+    @Test
+    void iterateOverPassengers() {
+        Person firstPerson = Person.of(50, building.getFloorWithIndex(4), 7);
+        Person secondPerson = Person.of(50, building.getFloorWithIndex(4), 1);
+
+        passengers.add(firstPerson);
+        passengers.add(secondPerson);
+        passengers.removeIf(i -> i.getNeededFloor() == 1);
+
+        assertEquals(List.of(firstPerson), List.copyOf(passengers));
+        assertFalse(passengers.hasPassengersTo(1));
+    }
+}
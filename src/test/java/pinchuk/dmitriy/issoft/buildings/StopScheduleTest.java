@@ -0,0 +1,163 @@
+package pinchuk.dmitriy.issoft.buildings;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pinchuk.dmitriy.issoft.domain.buildings.DirectionOfTravel;
+import pinchuk.dmitriy.issoft.domain.buildings.StopOrder;
+import pinchuk.dmitriy.issoft.domain.buildings.StopSchedule;
+import pinchuk.dmitriy.issoft.domain.buildings.Trip;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StopScheduleTest {
+
+    private StopSchedule stops;
+
+    @BeforeEach
+    void init() {
+        stops = new StopSchedule();
+    }
+
+    @Test
+    void addAndRemoveStop() {
+        Trip trip = Trip.of(4, DirectionOfTravel.DOWN);
+
+        assertTrue(stops.add(trip));
+        assertFalse(stops.add(trip));
+        assertTrue(stops.contains(trip));
+        assertEquals(1, stops.size());
+
+        assertTrue(stops.remove(trip));
+        assertTrue(stops.isEmpty());
+    }
+
+    @Test
+    void addStopWithoutDirection() {
+        assertThrows(IllegalArgumentException.class, () -> stops.add(Trip.of(4, DirectionOfTravel.NONE)));
+    }
+
+    @Test
+    void serveStopsInSweepOrder() {
+        stops.add(Trip.of(9, DirectionOfTravel.UP));
+        stops.add(Trip.of(2, DirectionOfTravel.DOWN));
+        stops.add(Trip.of(7, DirectionOfTravel.UP));
+        stops.add(Trip.of(8, DirectionOfTravel.DOWN));
+
+        List<Integer> order = new ArrayList<>();
+        int floor = 5;
+        DirectionOfTravel direction = DirectionOfTravel.UP;
+
+        while (!stops.isEmpty()) {
+            Trip stop = stops.nextStop(floor, direction);
+            direction = stop.getTargetFloorWithIndexNumber() == floor
+                    ? stop.getDirection()
+                    : stop.getTargetFloorWithIndexNumber() > floor ? DirectionOfTravel.UP : DirectionOfTravel.DOWN;
+            floor = stop.getTargetFloorWithIndexNumber();
+            order.add(floor);
+            stops.removeStopsAt(floor);
+        }
+
+        assertEquals(List.of(7, 9, 8, 2), order);
+    }
+
+    @Test
+    void turnAroundWhenNothingIsAhead() {
+        stops.add(Trip.of(1, DirectionOfTravel.UP));
+
+        assertEquals(Trip.of(1, DirectionOfTravel.UP), stops.nextStop(5, DirectionOfTravel.UP));
+        assertEquals(Trip.of(1, DirectionOfTravel.UP), stops.nextStop(5, DirectionOfTravel.DOWN));
+    }
+
+    @Test
+    void nextStopOfEmptySchedule() {
+        assertNull(stops.nextStop(5, DirectionOfTravel.UP));
+    }
+
+    @Test
+    void removeStopsAtFloor() {
+        stops.add(Trip.of(3, DirectionOfTravel.UP));
+        stops.add(Trip.of(3, DirectionOfTravel.DOWN));
+        stops.add(Trip.of(6, DirectionOfTravel.DOWN));
+
+        List<Trip> removed = stops.removeStopsAt(3);
+
+        assertEquals(List.of(Trip.of(3, DirectionOfTravel.UP), Trip.of(3, DirectionOfTravel.DOWN)), removed);
+        assertEquals(1, stops.size());
+    }
+
+    @Test
+    void countStopsBetweenFloors() {
+        stops.add(Trip.of(3, DirectionOfTravel.UP));
+        stops.add(Trip.of(3, DirectionOfTravel.DOWN));
+        stops.add(Trip.of(5, DirectionOfTravel.DOWN));
+        stops.add(Trip.of(8, DirectionOfTravel.UP));
+
+        assertEquals(2, stops.countStopsBetween(1, 8));
+        assertEquals(2, stops.countStopsBetween(8, 1));
+        assertEquals(0, stops.countStopsBetween(3, 5));
+    }
+
+    @Test
+    void serveStopsInArrivalOrder() {
+        StopSchedule fifo = new StopSchedule(StopOrder.FIFO);
+        fifo.add(Trip.of(9, DirectionOfTravel.UP));
+        fifo.add(Trip.of(2, DirectionOfTravel.DOWN));
+        fifo.add(Trip.of(7, DirectionOfTravel.UP));
+
+        assertEquals(Trip.of(9, DirectionOfTravel.UP), fifo.nextStop(5, DirectionOfTravel.DOWN));
+        fifo.removeStopsAt(9);
+        assertEquals(Trip.of(2, DirectionOfTravel.DOWN), fifo.nextStop(9, DirectionOfTravel.UP));
+        assertEquals(Trip.of(2, DirectionOfTravel.DOWN), fifo.nextStop(7, DirectionOfTravel.DOWN));
+    }
+
+    @Test
+    void lookTravelsFewerFloorsThanFifo() {
+        Random random = new Random(42);
+        long fifoFloors = 0;
+        long lookFloors = 0;
+
+        for (int i = 0; i < 100; i++) {
+            List<Trip> requests = new ArrayList<>();
+            for (int j = 0; j < 8; j++) {
+                int floor = 1 + random.nextInt(29);
+                requests.add(Trip.of(floor, random.nextBoolean() ? DirectionOfTravel.UP : DirectionOfTravel.DOWN));
+            }
+
+            fifoFloors += floorsTravelled(StopOrder.FIFO, requests);
+            lookFloors += floorsTravelled(StopOrder.LOOK, requests);
+        }
+
+        assertTrue(lookFloors < fifoFloors * 0.75);
+    }
+
+    // walks a car floor by floor from the lobby the way Elevator.step does
+    private static int floorsTravelled(StopOrder order, List<Trip> requests) {
+        StopSchedule schedule = new StopSchedule(order);
+        schedule.addAll(requests);
+
+        int floor = 0;
+        int floorsTravelled = 0;
+        DirectionOfTravel direction = DirectionOfTravel.UP;
+
+        while (!schedule.isEmpty()) {
+            Trip stop = schedule.nextStop(floor, direction);
+            int target = stop.getTargetFloorWithIndexNumber();
+
+            if (target == floor) {
+                schedule.removeStopsAt(floor);
+                continue;
+            }
+
+            direction = target > floor ? DirectionOfTravel.UP : DirectionOfTravel.DOWN;
+            floor += direction == DirectionOfTravel.UP ? 1 : -1;
+            floorsTravelled++;
+        }
+
+        return floorsTravelled;
+    }
+}
@@ -78,4 +78,27 @@ public class TripTest {
 
         assertThrows(IllegalArgumentException.class, () -> Trip.of(6, secondFloor));
     }
+
+    @Test
+    void tripsAreInterned() {
+        Floor floor = building.getFloorWithIndex(5);
+
+        assertSame(Trip.of(5, DirectionOfTravel.UP), Trip.of(5, DirectionOfTravel.UP));
+        assertSame(Trip.of(5, DirectionOfTravel.DOWN), Trip.of(floor, 7));
+        assertNotSame(Trip.of(5, DirectionOfTravel.UP), Trip.of(5, DirectionOfTravel.DOWN));
+    }
+
+    @Test
+    void decodeTripCode() {
+        Trip trip = Trip.of(9, DirectionOfTravel.DOWN);
+
+        assertEquals(Trip.encode(9, DirectionOfTravel.DOWN), trip.getCode());
+        assertSame(trip, Trip.ofCode(trip.getCode()));
+        assertThrows(IllegalArgumentException.class, () -> Trip.ofCode(-1));
+    }
+
+    @Test
+    void compareTripsBeyondInternedFloors() {
+        assertEquals(Trip.of(1 << 20, DirectionOfTravel.UP), Trip.of(1 << 20, DirectionOfTravel.UP));
+    }
 }
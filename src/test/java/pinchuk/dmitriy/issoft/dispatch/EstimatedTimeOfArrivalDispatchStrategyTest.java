@@ -0,0 +1,166 @@
+package pinchuk.dmitriy.issoft.dispatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.Controller;
+import pinchuk.dmitriy.issoft.domain.buildings.DirectionOfTravel;
+import pinchuk.dmitriy.issoft.domain.buildings.Elevator;
+import pinchuk.dmitriy.issoft.domain.buildings.Floor;
+import pinchuk.dmitriy.issoft.domain.buildings.Trip;
+import pinchuk.dmitriy.issoft.domain.dispatch.EstimatedTimeOfArrivalDispatchStrategy;
+import pinchuk.dmitriy.issoft.domain.people.Person;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EstimatedTimeOfArrivalDispatchStrategyTest {
+
+    public static Building building;
+    public static EstimatedTimeOfArrivalDispatchStrategy strategy;
+
+    @BeforeEach
+    void init() {
+        building = Building.of(1, 10, 3, "address").setController(new Controller());
+        strategy = new EstimatedTimeOfArrivalDispatchStrategy();
+    }
+
+    @Test
+    void selectNearestIdleElevator() {
+        building.getElevators().get(1).setCurrentFloorNumber(new AtomicInteger(4));
+        building.getElevators().get(2).setCurrentFloorNumber(new AtomicInteger(9));
+
+        Optional<Elevator> elevator = strategy.selectElevator(Trip.of(6, DirectionOfTravel.DOWN), building.getElevators());
+
+        assertTrue(elevator.get() == building.getElevators().get(1));
+    }
+
+    @Test
+    void selectMovingElevatorInTheSameDirection() {
+        building.getElevators().get(1).setCurrentFloorNumber(new AtomicInteger(4));
+        building.getElevators().get(1).addTrip(Trip.of(8, DirectionOfTravel.UP));
+        building.getElevators().get(1).goUp();
+        building.getElevators().get(2).setCurrentFloorNumber(new AtomicInteger(9));
+
+        Optional<Elevator> elevator = strategy.selectElevator(Trip.of(5, DirectionOfTravel.UP), building.getElevators());
+
+        assertTrue(elevator.get() == building.getElevators().get(1));
+    }
+
+    @Test
+    void doNotSelectElevatorMovingAwayFromCaller() {
+        Elevator elevator = building.getElevators().get(0);
+        elevator.setCurrentFloorNumber(new AtomicInteger(4));
+        elevator.goUp();
+
+        assertFalse(strategy.selectElevator(Trip.of(2, DirectionOfTravel.UP), List.of(elevator)).isPresent());
+    }
+
+    @Test
+    void doNotSelectElevatorMovingInTheOppositeDirection() {
+        Elevator elevator = building.getElevators().get(0);
+        elevator.goUp();
+
+        assertFalse(strategy.selectElevator(Trip.of(7, DirectionOfTravel.DOWN), List.of(elevator)).isPresent());
+    }
+
+    @Test
+    void doNotSelectFullElevator() {
+        Elevator elevator = building.getElevators().get(0);
+        elevator.setLiftingCapacity(100);
+        elevator.goUp();
+
+        assertFalse(strategy.selectElevator(Trip.of(7, DirectionOfTravel.UP), List.of(elevator)).isPresent());
+    }
+
+    @Test
+    void doNotSelectElevatorThatFillsUpOnTheWay() {
+        Elevator elevator = building.getElevators().get(0);
+        elevator.goUp();
+
+        Floor floor = building.getFloorWithIndex(3);
+        IntStream.range(0, 4).forEach(i -> floor.addPerson(Person.of(100, floor, 9)));
+
+        assertFalse(strategy.selectElevator(Trip.of(7, DirectionOfTravel.UP), List.of(elevator)).isPresent());
+    }
+
+    @Test
+    void doNotSelectElevatorThatAlreadyHasTrip() {
+        Elevator elevator = building.getElevators().get(0);
+        elevator.addTrip(Trip.of(7, DirectionOfTravel.UP));
+        elevator.goUp();
+
+        assertFalse(strategy.selectElevator(Trip.of(7, DirectionOfTravel.UP), List.of(elevator)).isPresent());
+    }
+
+    @Test
+    void addDwellTimeForIntermediateStops() {
+        Elevator elevator = building.getElevators().get(0);
+        elevator.addTrip(Trip.of(3, DirectionOfTravel.UP));
+        elevator.addTrip(Trip.of(5, DirectionOfTravel.UP));
+        elevator.goUp();
+
+        long stopTime = 2L * elevator.getDoorSpeed() + elevator.getBoardingTime();
+        long expectedTime = 6L * elevator.getTravelSpeed() + 2 * stopTime + stopTime;
+
+        assertTrue(strategy.estimateTimeOfArrival(elevator, Trip.of(7, DirectionOfTravel.UP)) == expectedTime);
+    }
+
+    @Test
+    void addStopTimeForEveryPassenger() {
+        Elevator elevator = building.getElevators().get(0);
+        elevator.takePeople(List.of(Person.of(80, building.getFloorWithIndex(0), 9), Person.of(80, building.getFloorWithIndex(0), 9)));
+        elevator.goUp();
+
+        long stopTime = 2L * elevator.getDoorSpeed() + elevator.getBoardingTime();
+        long expectedTime = 6L * elevator.getTravelSpeed() + 3 * stopTime;
+
+        assertTrue(strategy.estimateTimeOfArrival(elevator, Trip.of(7, DirectionOfTravel.UP)) == expectedTime);
+    }
+
+    @Test
+    void needAnotherElevatorForCrowdedFloor() {
+        Floor floor = building.getFloorWithIndex(5);
+        IntStream.range(0, 6).forEach(i -> floor.addPerson(Person.of(100, floor, 9)));
+        building.getElevators().get(0).addTrip(Trip.of(5, DirectionOfTravel.UP));
+
+        assertTrue(strategy.needsAnotherElevator(Trip.of(5, DirectionOfTravel.UP), building.getElevators()));
+    }
+
+    @Test
+    void doNotNeedAnotherElevatorWhenPeopleFit() {
+        Floor floor = building.getFloorWithIndex(5);
+        floor.addPerson(Person.of(100, floor, 9));
+        building.getElevators().get(0).addTrip(Trip.of(5, DirectionOfTravel.UP));
+
+        assertFalse(strategy.needsAnotherElevator(Trip.of(5, DirectionOfTravel.UP), building.getElevators()));
+    }
+
+    @Test
+    void selectNothingWhenEveryElevatorIsBusy() {
+        building.getElevators().forEach(Elevator::goUp);
+
+        assertFalse(strategy.selectElevator(Trip.of(0, DirectionOfTravel.UP), building.getElevators()).isPresent());
+    }
+
+    @Test
+    void countElevatorsThatCanReachCaller() {
+        Elevator elevator = building.getElevators().get(0);
+        elevator.setCurrentFloorNumber(new AtomicInteger(4));
+        elevator.goUp();
+
+        assertEquals(2, strategy.countCandidates(Trip.of(2, DirectionOfTravel.UP), building.getElevators()));
+    }
+
+    @Test
+    void selectElevatorForNullTrip() {
+        assertThrows(NullPointerException.class, () -> strategy.selectElevator(null, building.getElevators()));
+    }
+}
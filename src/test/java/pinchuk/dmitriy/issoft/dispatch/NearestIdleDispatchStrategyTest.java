@@ -0,0 +1,58 @@
+package pinchuk.dmitriy.issoft.dispatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.Controller;
+import pinchuk.dmitriy.issoft.domain.buildings.DirectionOfTravel;
+import pinchuk.dmitriy.issoft.domain.buildings.Elevator;
+import pinchuk.dmitriy.issoft.domain.buildings.Trip;
+import pinchuk.dmitriy.issoft.domain.dispatch.NearestIdleDispatchStrategy;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class NearestIdleDispatchStrategyTest {
+
+    public static Building building;
+    public static NearestIdleDispatchStrategy strategy;
+
+    @BeforeEach
+    void init() {
+        building = Building.of(1, 10, 2, "address").setController(new Controller());
+        strategy = new NearestIdleDispatchStrategy();
+    }
+
+    @Test
+    void selectNearestIdleElevator() {
+        building.getElevators().get(1).setCurrentFloorNumber(new AtomicInteger(5));
+
+        Optional<Elevator> elevator = strategy.selectElevator(Trip.of(7, DirectionOfTravel.DOWN), building.getElevators());
+
+        assertTrue(elevator.get() == building.getElevators().get(1));
+    }
+
+    @Test
+    void doNotSelectMovingElevator() {
+        building.getElevators().forEach(Elevator::goUp);
+
+        assertFalse(strategy.selectElevator(Trip.of(7, DirectionOfTravel.UP), building.getElevators()).isPresent());
+    }
+
+    @Test
+    void countIdleElevators() {
+        building.getElevators().get(0).goUp();
+
+        assertEquals(1, strategy.countCandidates(Trip.of(7, DirectionOfTravel.UP), building.getElevators()));
+    }
+
+    @Test
+    void selectElevatorFromNullList() {
+        assertThrows(NullPointerException.class, () -> strategy.selectElevator(Trip.of(7, DirectionOfTravel.UP), null));
+    }
+}
@@ -0,0 +1,75 @@
+package pinchuk.dmitriy.issoft.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.Controller;
+import pinchuk.dmitriy.issoft.domain.jfr.DispatchEvent;
+import pinchuk.dmitriy.issoft.domain.jfr.ElevatorBoardingEvent;
+import pinchuk.dmitriy.issoft.domain.jfr.ElevatorDoorEvent;
+import pinchuk.dmitriy.issoft.domain.jfr.ElevatorTravelEvent;
+import pinchuk.dmitriy.issoft.domain.jfr.LobbyPollEvent;
+import pinchuk.dmitriy.issoft.domain.simulation.HeadlessSimulation;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class FlightRecorderEventsTest {
+
+    private static final List<Class<? extends Event>> EVENTS = List.of(ElevatorTravelEvent.class, ElevatorDoorEvent.class,
+            ElevatorBoardingEvent.class, DispatchEvent.class, LobbyPollEvent.class);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void disabledInDefaultRecording() throws Exception {
+        try (Recording recording = new Recording(Configuration.getConfiguration("default"))) {
+            recording.start();
+
+            assertFalse(new ElevatorTravelEvent().isEnabled());
+            assertFalse(new DispatchEvent().isEnabled());
+        }
+    }
+
+    @Test
+    void recordSimulatedRun() throws Exception {
+        Path path = directory.resolve("elevators.jfr");
+        Building building = Building.of(4, 10, 2, "address").setController(new Controller());
+
+        try (Recording recording = new Recording()) {
+            EVENTS.forEach(i -> recording.enable(i).withThreshold(Duration.ZERO));
+            recording.start();
+            HeadlessSimulation.of(building, 3).runFor(20, TimeUnit.MINUTES);
+            recording.stop();
+            recording.dump(path);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(path);
+        Map<String, List<RecordedEvent>> byType = events.stream()
+                .collect(Collectors.groupingBy(i -> i.getEventType().getName()));
+
+        assertEquals(building.getStorage().getNumberOfPassedFloors(), byType.get("pinchuk.dmitriy.issoft.ElevatorTravel").size());
+        assertEquals(building.getWaitTimeHistogram().getCount(), byType.get("pinchuk.dmitriy.issoft.ElevatorBoarding").stream()
+                .mapToLong(i -> i.getInt("people"))
+                .sum());
+        assertTrue(byType.get("pinchuk.dmitriy.issoft.ElevatorDoor").stream().anyMatch(i -> i.getBoolean("opening")));
+        assertTrue(byType.get("pinchuk.dmitriy.issoft.Dispatch").stream()
+                .allMatch(i -> i.getInt("candidates") <= 2
+                        && (i.getInt("candidates") == 0) == (i.getInt("chosenElevator") == DispatchEvent.NO_ELEVATOR)));
+        assertTrue(byType.get("pinchuk.dmitriy.issoft.LobbyPoll").stream().allMatch(i -> i.getInt("building") == 4));
+    }
+}
@@ -0,0 +1,168 @@
+package pinchuk.dmitriy.issoft.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pinchuk.dmitriy.issoft.domain.journal.AsyncJournal;
+import pinchuk.dmitriy.issoft.domain.journal.Journal;
+import pinchuk.dmitriy.issoft.domain.journal.JournalEventType;
+import pinchuk.dmitriy.issoft.domain.journal.JournalReader;
+import pinchuk.dmitriy.issoft.domain.journal.JournalRecord;
+import pinchuk.dmitriy.issoft.domain.journal.MappedJournal;
+import pinchuk.dmitriy.issoft.domain.journal.TextJournal;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AsyncJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void deliverInAppendOrder() {
+        List<JournalRecord> records = new ArrayList<>();
+        Journal collector = (type, timeMillis, elevatorNumber, floorNumber, value, personId) ->
+                records.add(JournalRecord.of(type, timeMillis, elevatorNumber, floorNumber, value, personId));
+
+        try (AsyncJournal journal = AsyncJournal.of(collector, 8)) {
+            IntStream.range(0, 100).forEach(i -> journal.append(JournalEventType.MOVE, i, 1, i, 0, Journal.NO_PERSON));
+        }
+
+        assertEquals(100, records.size());
+        assertEquals(JournalRecord.of(JournalEventType.MOVE, 42, 1, 42, 0, Journal.NO_PERSON), records.get(42));
+        IntStream.range(0, 100).forEach(i -> assertEquals(i, records.get(i).getTimeMillis()));
+    }
+
+    @Test
+    void drainSeveralThreadsThroughSmallRing() throws Exception {
+        Path path = directory.resolve("journal.bin");
+
+        try (AsyncJournal journal = AsyncJournal.of(MappedJournal.open(path, 64), 16)) {
+            Thread[] producers = new Thread[4];
+            for (int i = 0; i < producers.length; i++) {
+                int elevator = i;
+                producers[i] = new Thread(() -> IntStream.range(0, 2000)
+                        .forEach(j -> journal.append(JournalEventType.BOARDING, j, elevator, j % 10, 1, elevator * 2000L + j + 1)));
+                producers[i].start();
+            }
+            for (Thread producer : producers) {
+                producer.join();
+            }
+        }
+
+        assertEquals(8000L, JournalReader.of(path).size());
+        assertEquals(8000L * 8001 / 2, JournalReader.of(path).stream().mapToLong(JournalRecord::getPersonId).sum());
+        for (int i = 0; i < 4; i++) {
+            int elevator = i;
+            long[] times = JournalReader.of(path).stream()
+                    .filter(j -> j.getElevatorNumber() == elevator)
+                    .mapToLong(JournalRecord::getTimeMillis)
+                    .toArray();
+            IntStream.range(0, times.length).forEach(j -> assertEquals(j, times[j]));
+        }
+    }
+
+    @Test
+    void flushBatchesToDelegate() {
+        AtomicInteger batches = new AtomicInteger();
+        AtomicInteger records = new AtomicInteger();
+        Journal counter = new Journal() {
+            @Override
+            public void append(JournalEventType type, long timeMillis, int elevatorNumber, int floorNumber, int value, long personId) {
+                records.incrementAndGet();
+            }
+
+            @Override
+            public void endOfBatch() {
+                batches.incrementAndGet();
+            }
+        };
+
+        try (AsyncJournal journal = AsyncJournal.of(counter)) {
+            IntStream.range(0, 1000).forEach(i -> journal.append(JournalEventType.HALL_CALL, i, Journal.NO_ELEVATOR, 1, 1, Journal.NO_PERSON));
+            journal.flush();
+
+            assertEquals(1000, records.get());
+            assertEquals(0, journal.getNumberOfPendingRecords());
+            assertTrue(batches.get() > 0 && batches.get() <= 1000);
+        }
+    }
+
+    @Test
+    void writeTextLines() throws Exception {
+        Path path = directory.resolve("events.log");
+
+        try (AsyncJournal journal = AsyncJournal.of(TextJournal.open(path))) {
+            journal.append(JournalEventType.ALIGHTING, 1500, 2, 7, 4, 11);
+        }
+
+        assertEquals(List.of(JournalRecord.of(JournalEventType.ALIGHTING, 1500, 2, 7, 4, 11).toString()),
+                Files.readAllLines(path));
+    }
+
+    @Test
+    void appendToClosedJournal() {
+        AsyncJournal journal = AsyncJournal.of(Journal.IGNORE);
+        journal.close();
+
+        assertThrows(IllegalStateException.class,
+                () -> journal.append(JournalEventType.MOVE, 0, 0, 0, 0, Journal.NO_PERSON));
+    }
+
+    @Test
+    void closeWhileAppending() throws Exception {
+        AtomicLong delivered = new AtomicLong();
+        AtomicLong appended = new AtomicLong();
+        AsyncJournal journal = AsyncJournal.of((type, timeMillis, elevatorNumber, floorNumber, value, personId) ->
+                delivered.incrementAndGet(), 16);
+        Thread[] producers = new Thread[4];
+
+        for (int i = 0; i < producers.length; i++) {
+            producers[i] = new Thread(() -> {
+                try {
+                    while (true) {
+                        journal.append(JournalEventType.MOVE, 0, 0, 0, 0, Journal.NO_PERSON);
+                        appended.incrementAndGet();
+                    }
+                } catch (IllegalStateException closed) {
+                    // the journal has been closed
+                }
+            });
+            producers[i].start();
+        }
+
+        while (appended.get() < 10_000) {
+            Thread.onSpinWait();
+        }
+        journal.close();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        assertEquals(appended.get(), delivered.get());
+    }
+
+    @Test
+    void appendToFullRingOfStoppedWriter() {
+        AsyncJournal journal = AsyncJournal.of((type, timeMillis, elevatorNumber, floorNumber, value, personId) -> {
+            throw new AssertionError("writer has failed");
+        }, 4);
+
+        assertThrows(IllegalStateException.class, () -> IntStream.range(0, 8)
+                .forEach(i -> journal.append(JournalEventType.MOVE, i, 0, 0, 0, Journal.NO_PERSON)));
+    }
+
+    @Test
+    void createJournalWithUnevenCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> AsyncJournal.of(Journal.IGNORE, 100));
+    }
+}
@@ -0,0 +1,121 @@
+package pinchuk.dmitriy.issoft.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.Controller;
+import pinchuk.dmitriy.issoft.domain.journal.Journal;
+import pinchuk.dmitriy.issoft.domain.journal.JournalEventType;
+import pinchuk.dmitriy.issoft.domain.journal.JournalReader;
+import pinchuk.dmitriy.issoft.domain.journal.JournalRecord;
+import pinchuk.dmitriy.issoft.domain.journal.MappedJournal;
+import pinchuk.dmitriy.issoft.domain.simulation.HeadlessSimulation;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MappedJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void appendAcrossSegmentsAndReadBack() throws Exception {
+        Path path = directory.resolve("journal.bin");
+
+        try (MappedJournal journal = MappedJournal.open(path, 4)) {
+            IntStream.range(0, 10).forEach(i -> journal.append(JournalEventType.MOVE, i * 1000L, 1, i, 0, Journal.NO_PERSON));
+        }
+
+        List<JournalRecord> records = JournalReader.of(path).stream().collect(Collectors.toList());
+
+        assertEquals(10L * JournalRecord.SIZE, Files.size(path));
+        assertEquals(10, records.size());
+        assertEquals(JournalRecord.of(JournalEventType.MOVE, 7000, 1, 7, 0, Journal.NO_PERSON), records.get(7));
+    }
+
+    @Test
+    void appendFromSeveralThreads() throws Exception {
+        Path path = directory.resolve("journal.bin");
+
+        try (MappedJournal journal = MappedJournal.open(path, 64)) {
+            IntStream.range(0, 4000).parallel()
+                    .forEach(i -> journal.append(JournalEventType.BOARDING, i, i % 4, i % 10, i % 10 + 1, i + 1));
+        }
+
+        assertEquals(4000L, JournalReader.of(path).size());
+        assertEquals(4000L * 4001 / 2, JournalReader.of(path).stream().mapToLong(JournalRecord::getPersonId).sum());
+    }
+
+    @Test
+    void appendToClosedJournal() {
+        MappedJournal journal = MappedJournal.open(directory.resolve("journal.bin"));
+        journal.close();
+
+        assertThrows(IllegalStateException.class,
+                () -> journal.append(JournalEventType.MOVE, 0, 0, 0, 0, Journal.NO_PERSON));
+    }
+
+    @Test
+    void closeWhileAppending() throws Exception {
+        Path path = directory.resolve("journal.bin");
+        MappedJournal journal = MappedJournal.open(path, 16);
+        AtomicLong appended = new AtomicLong();
+        Thread[] writers = new Thread[4];
+
+        for (int i = 0; i < writers.length; i++) {
+            writers[i] = new Thread(() -> {
+                try {
+                    while (true) {
+                        journal.append(JournalEventType.MOVE, 0, 0, 0, 0, Journal.NO_PERSON);
+                        appended.incrementAndGet();
+                    }
+                } catch (IllegalStateException closed) {
+                    // the journal has been closed
+                }
+            });
+            writers[i].start();
+        }
+
+        while (appended.get() < 10_000) {
+            Thread.onSpinWait();
+        }
+        journal.close();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        assertEquals(appended.get() * JournalRecord.SIZE, Files.size(path));
+        assertEquals(appended.get(), JournalReader.of(path).countByType().get(JournalEventType.MOVE).longValue());
+    }
+
+    @Test
+    void journalSimulatedHour() {
+        Path path = directory.resolve("journal.bin");
+        Building building = Building.of(1, 12, 3, "address").setController(new Controller());
+        HeadlessSimulation simulation;
+
+        try (MappedJournal journal = MappedJournal.open(path)) {
+            building.setJournal(journal);
+            simulation = HeadlessSimulation.of(building, 7).runFor(1, TimeUnit.HOURS);
+        }
+
+        Map<JournalEventType, Long> counts = JournalReader.of(path).countByType();
+
+        assertEquals(simulation.getTripLog().size(), counts.get(JournalEventType.ALIGHTING).intValue());
+        assertEquals(building.getWaitTimeHistogram().getCount(), counts.get(JournalEventType.BOARDING).longValue());
+        assertEquals(building.getStorage().getNumberOfPassedFloors(), counts.get(JournalEventType.MOVE).longValue());
+        assertTrue(counts.get(JournalEventType.HALL_CALL) > 0);
+        assertTrue(counts.get(JournalEventType.ASSIGNMENT) > 0);
+    }
+}
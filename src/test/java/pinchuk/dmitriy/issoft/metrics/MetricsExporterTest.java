@@ -0,0 +1,59 @@
+package pinchuk.dmitriy.issoft.metrics;
+
+import org.junit.jupiter.api.Test;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.Controller;
+import pinchuk.dmitriy.issoft.domain.metrics.MetricsExporter;
+import pinchuk.dmitriy.issoft.domain.people.Person;
+import pinchuk.dmitriy.issoft.domain.simulation.HeadlessSimulation;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MetricsExporterTest {
+
+    @Test
+    void exportIdleBuilding() {
+        Building building = Building.of(3, 4, 2, "address").setController(new Controller());
+        building.getFloorWithIndex(2).addPerson(Person.of(50, building.getFloorWithIndex(2), 0));
+
+        String metrics = MetricsExporter.of(List.of(building)).scrape();
+
+        assertTrue(metrics.contains("# TYPE elevator_state gauge\n"));
+        assertTrue(metrics.contains("elevator_state{building=\"3\",elevator=\"1\",state=\"STOP\"} 1\n"));
+        assertTrue(metrics.contains("elevator_state{building=\"3\",elevator=\"1\",state=\"MOVE\"} 0\n"));
+        assertTrue(metrics.contains("elevator_load_kilograms{building=\"3\",elevator=\"0\"} 0\n"));
+        assertTrue(metrics.contains("floor_queue_depth{building=\"3\",floor=\"2\",direction=\"down\"} 1\n"));
+        assertTrue(metrics.contains("floor_queue_depth{building=\"3\",floor=\"2\",direction=\"up\"} 0\n"));
+        assertTrue(metrics.contains("building_hall_calls_pending{building=\"3\"} 1\n"));
+        assertTrue(metrics.contains("building_wait_time_seconds{building=\"3\",quantile=\"0.95\"} 0.0\n"));
+        assertTrue(metrics.contains("building_wait_time_seconds_count{building=\"3\"} 0\n"));
+    }
+
+    @Test
+    void exportEveryBuildingUnderOneFamily() {
+        Building first = Building.of(1, 10, 2, "address").setController(new Controller());
+        Building second = Building.of(2, 10, 2, "address").setController(new Controller());
+        HeadlessSimulation.of(first, 5).runFor(20, TimeUnit.MINUTES);
+
+        String metrics = MetricsExporter.of(List.of(first, second)).scrape();
+
+        assertEquals(1, metrics.split("# TYPE building_delivered_people_total counter", -1).length - 1);
+        assertTrue(metrics.contains("building_delivered_people_total{building=\"1\"} "
+                + first.getStorage().getNumberOfDeliveredPeople() + "\n"));
+        assertTrue(metrics.contains("building_delivered_people_total{building=\"2\"} 0\n"));
+        assertTrue(metrics.contains("elevator_floors_travelled_total{building=\"1\",elevator=\"0\"} "
+                + first.getStorage().getNumberOfPassedFloorsByElevator(0) + "\n"));
+        assertTrue(metrics.contains("building_ride_time_seconds_count{building=\"1\"} "
+                + first.getRideTimeHistogram().getCount() + "\n"));
+    }
+
+    @Test
+    void createExporterWithoutBuildings() {
+        assertThrows(IllegalArgumentException.class, () -> MetricsExporter.of(List.of()));
+    }
+}
@@ -0,0 +1,46 @@
+package pinchuk.dmitriy.issoft.metrics;
+
+import org.junit.jupiter.api.Test;
+import pinchuk.dmitriy.issoft.buildings.samples.BuildingSamples;
+import pinchuk.dmitriy.issoft.domain.metrics.MetricsExporter;
+import pinchuk.dmitriy.issoft.domain.metrics.MetricsServer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class MetricsServerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void serveMetrics() throws Exception {
+        try (MetricsServer server = MetricsServer.start(0, List.of(BuildingSamples.anyValidBuilding()))) {
+            HttpResponse<String> response = client.send(request(server, "GET"), HttpResponse.BodyHandlers.ofString());
+
+            assertEquals(200, response.statusCode());
+            assertEquals(MetricsExporter.CONTENT_TYPE, response.headers().firstValue("Content-Type").orElse(""));
+            assertTrue(response.body().contains("elevator_floor{building=\"1\",elevator=\"0\"} 0\n"));
+        }
+    }
+
+    @Test
+    void rejectOtherMethods() throws Exception {
+        try (MetricsServer server = MetricsServer.start(0, List.of(BuildingSamples.anyValidBuilding()))) {
+            HttpResponse<String> response = client.send(request(server, "POST"), HttpResponse.BodyHandlers.ofString());
+
+            assertEquals(405, response.statusCode());
+        }
+    }
+
+    private static HttpRequest request(MetricsServer server, String method) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + MetricsServer.PATH))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+}
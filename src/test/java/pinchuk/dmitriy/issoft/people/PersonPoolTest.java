@@ -0,0 +1,81 @@
+package pinchuk.dmitriy.issoft.people;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pinchuk.dmitriy.issoft.buildings.samples.BuildingSamples;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.DirectionOfTravel;
+import pinchuk.dmitriy.issoft.domain.buildings.Trip;
+import pinchuk.dmitriy.issoft.domain.people.Person;
+import pinchuk.dmitriy.issoft.domain.people.PersonPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersonPoolTest {
+
+    public static Building building;
+
+    @BeforeEach
+    void init() {
+        building = BuildingSamples.anyValidBuilding();
+    }
+
+    @Test
+    void reuseReleasedPerson() {
+        PersonPool pool = new PersonPool(1);
+        Person person = pool.acquire(50, building.getFloorWithIndex(1), 5);
+        long id = person.getId();
+        person.setBoardTimeMillis(100);
+
+        pool.release(person);
+        Person reused = pool.acquire(70, building.getFloorWithIndex(4), 2);
+
+        assertSame(person, reused);
+        assertNotEquals(id, reused.getId());
+        assertEquals(70, reused.getWeight());
+        assertEquals(4, reused.getCurrentFloor().getNumberOfFloor());
+        assertEquals(Trip.of(2, DirectionOfTravel.DOWN), reused.getTrip());
+        assertEquals(0, reused.getBoardTimeMillis());
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    void dropPeopleBeyondCapacity() {
+        PersonPool pool = new PersonPool(1);
+
+        pool.release(Person.of(50, building.getFloorWithIndex(1), 5));
+        pool.release(Person.of(50, building.getFloorWithIndex(1), 5));
+
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    void numberPeopleWithinBuilding() {
+        Building otherBuilding = BuildingSamples.anyValidBuilding();
+
+        assertEquals(1, Person.of(50, building.getFloorWithIndex(1), 5).getId());
+        assertEquals(2, Person.of(50, building.getFloorWithIndex(2), 5).getId());
+        assertEquals(1, Person.of(50, otherBuilding.getFloorWithIndex(1), 5).getId());
+    }
+
+    @Test
+    void keepNumberingWhenPoolIsReplaced() {
+        building.setPersonPool(new PersonPool(1));
+        Person person = building.getPersonPool().acquire(50, building.getFloorWithIndex(1), 5);
+
+        building.setPersonPool(new PersonPool(1));
+
+        assertEquals(1, person.getId());
+        assertEquals(2, building.getPersonPool().acquire(50, building.getFloorWithIndex(2), 5).getId());
+    }
+
+    @Test
+    void createPoolWithNegativeCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonPool(-1));
+    }
+
+    @Test
+    void releaseNullPerson() {
+        assertThrows(NullPointerException.class, () -> new PersonPool(1).release(null));
+    }
+}
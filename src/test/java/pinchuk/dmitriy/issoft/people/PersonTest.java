@@ -83,4 +83,13 @@ public class PersonTest {
         assertTrue(building.getController().getAllTrips().contains(Trip.of(person.getCurrentFloor(), person.getTrip().getDirection())));
     }
 
+    @Test
+    void peopleGetSequentialIds() {
+        Person firstPerson = Person.of(50, building.getFloorWithIndex(0), 5);
+        Person secondPerson = Person.of(50, building.getFloorWithIndex(0), 5);
+
+        assertTrue(secondPerson.getId() > firstPerson.getId());
+        assertNotEquals(firstPerson, secondPerson);
+    }
+
 }
@@ -0,0 +1,75 @@
+package pinchuk.dmitriy.issoft.simulation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pinchuk.dmitriy.issoft.buildings.samples.BuildingSamples;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.Controller;
+import pinchuk.dmitriy.issoft.domain.simulation.Campus;
+import pinchuk.dmitriy.issoft.domain.simulation.HeadlessSimulation;
+
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CampusTest {
+
+    private Campus campus;
+
+    @BeforeEach
+    void init() {
+        campus = Campus.of(2);
+    }
+
+    @AfterEach
+    void close() {
+        campus.close();
+    }
+
+    private static Building anyBuilding(int id) {
+        return Building.of(id, 12, 3, "address").setController(new Controller());
+    }
+
+    @Test
+    void createInvalidCampusWithoutWorkers() {
+        assertThrows(IllegalArgumentException.class, () -> Campus.of(0));
+    }
+
+    @Test
+    void addBuildingWithoutController() {
+        assertThrows(NullPointerException.class, () -> campus.addBuilding(BuildingSamples.anyBuildingWithoutController(), 1));
+    }
+
+    @Test
+    void buildingsKeepIsolatedStatistics() {
+        for (int i = 1; i <= 4; i++) {
+            campus.addBuilding(anyBuilding(i), i);
+        }
+        campus.runFor(1, TimeUnit.HOURS);
+
+        for (int i = 1; i <= 4; i++) {
+            Building building = anyBuilding(i);
+            HeadlessSimulation.of(building, i).runFor(1, TimeUnit.HOURS);
+
+            assertEquals(building.getStorage().getNumberOfDeliveredPeople(),
+                    campus.getBuildings().get(i - 1).getStorage().getNumberOfDeliveredPeople());
+        }
+    }
+
+    @Test
+    void aggregateStatisticsOfAllBuildings() {
+        campus.addBuilding(anyBuilding(1), 1).addBuilding(anyBuilding(2), 2).addBuilding(anyBuilding(3), 3);
+        campus.runFor(1, TimeUnit.HOURS);
+
+        long delivered = campus.getBuildings().stream().mapToLong(i -> i.getStorage().getNumberOfDeliveredPeople()).sum();
+        long rides = campus.getBuildings().stream().mapToLong(i -> i.getRideTimeHistogram().getCount()).sum();
+
+        assertTrue(delivered > 0);
+        assertEquals(delivered, campus.getStorage().getNumberOfDeliveredPeople());
+        assertEquals(rides, campus.getRideTimeHistogram().getCount());
+        assertTrue(campus.getReport().startsWith("Campus of 3 buildings: delivered " + delivered));
+    }
+}
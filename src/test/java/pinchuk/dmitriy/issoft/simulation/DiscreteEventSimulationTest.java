@@ -0,0 +1,112 @@
+package pinchuk.dmitriy.issoft.simulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pinchuk.dmitriy.issoft.buildings.samples.BuildingSamples;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.Controller;
+import pinchuk.dmitriy.issoft.domain.buildings.DirectionOfTravel;
+import pinchuk.dmitriy.issoft.domain.buildings.ElevatorState;
+import pinchuk.dmitriy.issoft.domain.buildings.Trip;
+import pinchuk.dmitriy.issoft.domain.people.Person;
+import pinchuk.dmitriy.issoft.domain.simulation.DiscreteEventSimulation;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class DiscreteEventSimulationTest {
+
+    public static Building building;
+
+    @BeforeEach
+    void init() {
+        building = BuildingSamples.anyValidBuilding();
+    }
+
+    @Test
+    void createInvalidSimulationWithoutController() {
+        assertThrows(NullPointerException.class,
+                () -> DiscreteEventSimulation.of(BuildingSamples.anyBuildingWithoutController()));
+    }
+
+    @Test
+    void runReplacesBuildingClock() {
+        DiscreteEventSimulation simulation = DiscreteEventSimulation.of(building);
+
+        simulation.runFor(0, TimeUnit.SECONDS);
+
+        assertTrue(building.getClock() == simulation);
+    }
+
+    @Test
+    void advanceVirtualTime() {
+        DiscreteEventSimulation simulation = DiscreteEventSimulation.of(building);
+
+        simulation.runFor(10, TimeUnit.MINUTES);
+
+        assertTrue(simulation.currentTimeMillis() == TimeUnit.MINUTES.toMillis(10));
+        assertTrue(simulation.getNumberOfProcessedEvents() > 0);
+    }
+
+    @Test
+    void deliverPersonWithoutSleeping() {
+        building = Building.of(5, 10, 1, "address").setController(new Controller());
+        DiscreteEventSimulation simulation = DiscreteEventSimulation.of(building);
+        building.getFloors().forEach(i -> i.getPeopleSpawn().setIntensity(0));
+
+        simulation.runFor(0, TimeUnit.SECONDS);
+        building.getFloorWithIndex(3).addPerson(Person.of(50, building.getFloorWithIndex(3), 7));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> simulation.runFor(1, TimeUnit.MINUTES));
+
+        assertTrue(building.getStorage().getNumberOfDeliveredPeople() == 1);
+        assertTrue(building.getElevators().get(0).getCurrentFloorNumber() == 7);
+        assertTrue(building.getElevators().get(0).getElevatorState() == ElevatorState.STOP);
+        assertFalse(building.getController().getAllTrips().contains(Trip.of(3, DirectionOfTravel.UP)));
+    }
+
+    @Test
+    void boardPersonCreatedBeforeClockSwitch() {
+        building = Building.of(5, 10, 1, "address").setController(new Controller());
+        DiscreteEventSimulation simulation = DiscreteEventSimulation.of(building);
+        building.getFloors().forEach(i -> i.getPeopleSpawn().setIntensity(0));
+        Person person = Person.of(50, building.getFloorWithIndex(3), 7);
+
+        simulation.runFor(0, TimeUnit.SECONDS);
+        building.getFloorWithIndex(3).addPerson(person);
+        simulation.runFor(1, TimeUnit.MINUTES);
+
+        assertTrue(building.getStorage().getNumberOfDeliveredPeople() == 1);
+        assertTrue(building.getWaitTimeHistogram().getCount() == 1);
+        assertTrue(building.getWaitTimeHistogram().getMaxValue() <= TimeUnit.MINUTES.toMillis(1));
+    }
+
+    @Test
+    void boardPersonQueuedBeforeClockSwitch() {
+        building = Building.of(5, 10, 1, "address").setController(new Controller());
+        DiscreteEventSimulation simulation = DiscreteEventSimulation.of(building);
+        building.getFloors().forEach(i -> i.getPeopleSpawn().setIntensity(0));
+
+        building.getFloorWithIndex(3).addPerson(Person.of(50, building.getFloorWithIndex(3), 7));
+        simulation.runFor(1, TimeUnit.MINUTES);
+
+        assertTrue(building.getStorage().getNumberOfDeliveredPeople() == 1);
+        assertTrue(building.getWaitTimeHistogram().getCount() == 1);
+        assertTrue(building.getRideTimeHistogram().getCount() == 1);
+    }
+
+    @Test
+    void runSimulatedHourInSeconds() {
+        DiscreteEventSimulation simulation = DiscreteEventSimulation.of(building);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> simulation.runFor(1, TimeUnit.HOURS));
+
+        assertTrue(building.getStorage().getNumberOfGeneratedPeople() > 0);
+        assertTrue(building.getStorage().getNumberOfDeliveredPeople() > 0);
+    }
+}
@@ -0,0 +1,65 @@
+package pinchuk.dmitriy.issoft.simulation;
+
+import org.junit.jupiter.api.Test;
+import pinchuk.dmitriy.issoft.buildings.samples.BuildingSamples;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.buildings.Controller;
+import pinchuk.dmitriy.issoft.domain.simulation.HeadlessSimulation;
+import pinchuk.dmitriy.issoft.domain.simulation.TripRecord;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class HeadlessSimulationTest {
+
+    private static List<TripRecord> runHour(long seed) {
+        Building building = Building.of(1, 12, 3, "address").setController(new Controller());
+
+        return HeadlessSimulation.of(building, seed).runFor(1, TimeUnit.HOURS).getTripLog().getRecords();
+    }
+
+    @Test
+    void createInvalidSimulationWithoutController() {
+        assertThrows(NullPointerException.class,
+                () -> HeadlessSimulation.of(BuildingSamples.anyBuildingWithoutController(), 1));
+    }
+
+    @Test
+    void sameSeedProducesIdenticalTripLogs() {
+        List<TripRecord> firstRun = runHour(7);
+        List<TripRecord> secondRun = runHour(7);
+
+        assertFalse(firstRun.isEmpty());
+        assertEquals(firstRun, secondRun);
+    }
+
+    @Test
+    void differentSeedsProduceDifferentTripLogs() {
+        assertFalse(runHour(7).equals(runHour(8)));
+    }
+
+    @Test
+    void recordWaitAndRideTimes() {
+        Building building = Building.of(1, 12, 3, "address").setController(new Controller());
+        HeadlessSimulation simulation = HeadlessSimulation.of(building, 7).runFor(1, TimeUnit.HOURS);
+
+        long elevatorRides = building.getElevators().stream().mapToLong(i -> i.getRideTimeHistogram().getCount()).sum();
+
+        assertEquals(simulation.getTripLog().size(), building.getRideTimeHistogram().getCount());
+        assertEquals(building.getRideTimeHistogram().getCount(), elevatorRides);
+        assertTrue(building.getWaitTimeHistogram().getCount() >= building.getRideTimeHistogram().getCount());
+        assertTrue(building.getRideTimeHistogram().getValueAtPercentile(50) > 0);
+    }
+
+    @Test
+    void simulatedHourRunsWithoutWallClockDelays() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> runHour(7));
+    }
+}
@@ -0,0 +1,80 @@
+package pinchuk.dmitriy.issoft.simulation;
+
+import org.junit.jupiter.api.Test;
+import pinchuk.dmitriy.issoft.domain.buildings.StopOrder;
+import pinchuk.dmitriy.issoft.domain.simulation.ParameterSweep;
+import pinchuk.dmitriy.issoft.domain.simulation.SweepConfiguration;
+import pinchuk.dmitriy.issoft.domain.simulation.SweepResult;
+import pinchuk.dmitriy.issoft.domain.simulation.TrafficPattern;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ParameterSweepTest {
+
+    private static ParameterSweep anySweep() {
+        return ParameterSweep.of(30, TimeUnit.MINUTES)
+                .setNumbersOfFloors(8)
+                .setNumbersOfElevators(1, 2)
+                .setLiftingCapacities(400, 800)
+                .setSeeds(1, 2);
+    }
+
+    @Test
+    void createInvalidSweepWithoutDuration() {
+        assertThrows(IllegalArgumentException.class, () -> ParameterSweep.of(0, TimeUnit.MINUTES));
+    }
+
+    @Test
+    void setEmptyRange() {
+        assertThrows(IllegalArgumentException.class, () -> anySweep().setNumbersOfElevators());
+    }
+
+    @Test
+    void sweepEveryCombinationOfParameters() {
+        List<SweepConfiguration> configurations = anySweep().getConfigurations();
+
+        assertEquals(4, configurations.size());
+        assertEquals(SweepConfiguration.of(8, 2, 800, 1, 1), configurations.get(3));
+    }
+
+    @Test
+    void resultsDoNotDependOnParallelism() {
+        List<SweepResult> sequential = anySweep().setParallelism(1).run();
+        List<SweepResult> parallel = anySweep().setParallelism(4).run();
+
+        assertEquals(4, parallel.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals(sequential.get(i).toString(), parallel.get(i).toString());
+            assertTrue(parallel.get(i).getNumberOfDeliveredPeople() > 0);
+            assertEquals(2, parallel.get(i).getNumberOfRuns());
+        }
+    }
+
+    @Test
+    void lookTravelsFewerFloorsThanFifo() {
+        List<SweepResult> results = ParameterSweep.of(30, TimeUnit.MINUTES)
+                .setNumbersOfFloors(12)
+                .setNumbersOfElevators(4)
+                .setStopOrders(StopOrder.FIFO, StopOrder.LOOK)
+                .setTrafficPatterns(TrafficPattern.UNIFORM)
+                .setSeeds(1, 2)
+                .run();
+
+        assertEquals(StopOrder.FIFO, results.get(0).getConfiguration().getStopOrder());
+        assertEquals(StopOrder.LOOK, results.get(1).getConfiguration().getStopOrder());
+        assertTrue(results.get(1).getFloorsPerDeliveredPerson() < results.get(0).getFloorsPerDeliveredPerson());
+    }
+
+    @Test
+    void printResultsTable() {
+        String table = ParameterSweep.toTable(anySweep().setNumbersOfElevators(2).setLiftingCapacities(400).run());
+
+        assertTrue(table.startsWith(SweepResult.HEADER));
+        assertEquals(2, table.split(System.lineSeparator()).length);
+    }
+}
@@ -0,0 +1,78 @@
+package pinchuk.dmitriy.issoft.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pinchuk.dmitriy.issoft.buildings.samples.BuildingSamples;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
+import pinchuk.dmitriy.issoft.domain.util.ConsoleRenderer;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ConsoleRendererTest {
+
+    private Building building;
+    private ByteArrayOutputStream out;
+    private ConsoleRenderer renderer;
+
+    @BeforeEach
+    void init() {
+        building = BuildingSamples.anyValidBuilding();
+        out = new ByteArrayOutputStream();
+        renderer = ConsoleRenderer.of(building, out);
+    }
+
+    @Test
+    void drawWholeBuildingOnFirstFrame() {
+        renderer.render();
+        String frame = out.toString(StandardCharsets.US_ASCII);
+
+        assertEquals(2, renderer.getNumberOfRedrawnElevators());
+        assertTrue(frame.startsWith("\u001b[2J"));
+        assertTrue(frame.contains("\u001b[5;1HElevator 0: Current floor=0: Free space=400; Passengers size=0;"
+                + " Number of delivered people=0: State=STOP; Direction=NONE\u001b[K"));
+        assertTrue(frame.contains("\u001b[6;1HElevator 1:"));
+    }
+
+    @Test
+    void redrawOnlyChangedElevators() {
+        renderer.render();
+        out.reset();
+
+        renderer.render();
+        assertEquals(0, renderer.getNumberOfRedrawnElevators());
+        assertFalse(out.toString(StandardCharsets.US_ASCII).contains("Elevator"));
+
+        building.getElevators().get(1).setCurrentFloorNumber(new AtomicInteger(3));
+        out.reset();
+        renderer.render();
+        String frame = out.toString(StandardCharsets.US_ASCII);
+
+        assertEquals(1, renderer.getNumberOfRedrawnElevators());
+        assertFalse(frame.contains("[2J"));
+        assertTrue(frame.contains("\u001b[6;1HElevator 1: Current floor=3"));
+        assertFalse(frame.contains("Elevator 0"));
+    }
+
+    @Test
+    void writeCountersEveryFrame() {
+        renderer.render();
+        building.getStorage().incrementNumberOfGeneratedPeople(1);
+        out.reset();
+        renderer.render();
+
+        assertTrue(out.toString(StandardCharsets.US_ASCII).contains("\u001b[2;1HGenerated: 1\u001b[K"));
+        assertEquals(out.size(), renderer.getFrameSize());
+    }
+
+    @Test
+    void createRendererWithoutOutput() {
+        assertThrows(NullPointerException.class, () -> ConsoleRenderer.of(building, null));
+    }
+}
@@ -0,0 +1,107 @@
+package pinchuk.dmitriy.issoft.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pinchuk.dmitriy.issoft.domain.util.LatencyHistogram;
+
+import java.util.stream.IntStream;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LatencyHistogramTest {
+
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    void init() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    void emptyHistogram() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    void recordNegativeValue() {
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+    }
+
+    @Test
+    void addOtherHistogram() {
+        LatencyHistogram other = new LatencyHistogram();
+        IntStream.rangeClosed(1, 50).forEach(histogram::record);
+        IntStream.rangeClosed(51, 100).forEach(other::record);
+
+        histogram.add(other);
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(100, histogram.getMaxValue());
+        assertEquals(50.5, histogram.getMean());
+        assertEquals(95, histogram.getValueAtPercentile(95));
+        assertEquals(50, other.getCount());
+    }
+
+    @Test
+    void smallValuesAreExact() {
+        IntStream.rangeClosed(1, 100).forEach(histogram::record);
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(50, histogram.getValueAtPercentile(50));
+        assertEquals(95, histogram.getValueAtPercentile(95));
+        assertEquals(99, histogram.getValueAtPercentile(99));
+        assertEquals(100, histogram.getMaxValue());
+    }
+
+    @Test
+    void largeValuesStayWithinTwoPercent() {
+        IntStream.rangeClosed(1, 1000).forEach(i -> histogram.record(i * 1000L));
+
+        long p95 = histogram.getValueAtPercentile(95);
+
+        assertTrue(Math.abs(p95 - 950_000) <= 950_000 / 50);
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void recordConcurrently() throws InterruptedException {
+        Thread[] writers = new Thread[4];
+
+        for (int i = 0; i < writers.length; i++) {
+            writers[i] = new Thread(() -> IntStream.range(0, 10_000).forEach(histogram::record));
+            writers[i].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(9_999, histogram.getMaxValue());
+    }
+
+    @Test
+    void reset() {
+        histogram.record(42);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxValue());
+    }
+
+    @Test
+    void valuesAtSeveralPercentilesInOnePass() {
+        IntStream.rangeClosed(1, 10_000).forEach(histogram::record);
+
+        long[] values = histogram.getValuesAtPercentiles(50, 95, 99, 100);
+
+        assertEquals(histogram.getValueAtPercentile(50), values[0]);
+        assertEquals(histogram.getValueAtPercentile(95), values[1]);
+        assertEquals(histogram.getValueAtPercentile(99), values[2]);
+        assertEquals(10_000, values[3]);
+        assertEquals(50_005_000, histogram.getTotalValue());
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValuesAtPercentiles(95, 50));
+    }
+}
@@ -5,8 +5,16 @@ import org.junit.jupiter.api.Test;
 import pinchuk.dmitriy.issoft.buildings.samples.BuildingSamples;
 import pinchuk.dmitriy.issoft.domain.buildings.Building;
 import pinchuk.dmitriy.issoft.domain.buildings.DirectionOfTravel;
+import pinchuk.dmitriy.issoft.domain.buildings.Floor;
+import pinchuk.dmitriy.issoft.domain.buildings.OverflowPolicy;
+import pinchuk.dmitriy.issoft.domain.people.Person;
+import pinchuk.dmitriy.issoft.domain.simulation.SimulationClock;
 import pinchuk.dmitriy.issoft.domain.util.PeopleSpawn;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
 import static junit.framework.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -42,6 +50,58 @@ public class PeopleSpawnTest {
         assertTrue(actualNumberOfPeople != 0);
     }
 
+    @Test
+    void blockedSpawnerWaitsForRoomInTheLobby() {
+        Floor floor = building.getFloorWithIndex(0);
+        PeopleSpawn peopleSpawn = floor.getPeopleSpawn();
+        building.setQueueCapacity(2).setOverflowPolicy(OverflowPolicy.BLOCK);
+
+        assertTrue(peopleSpawn.addPerson(3));
+        assertTrue(peopleSpawn.addPerson(4));
+        assertFalse(peopleSpawn.addPerson(5));
+        peopleSpawn.spawnPeople();
+
+        assertEquals(2, floor.getNumberOfPeople(DirectionOfTravel.UP));
+        assertEquals(3, building.getStorage().getNumberOfGeneratedPeople());
+        assertEquals(0, building.getStorage().getNumberOfBalkedPeople());
+
+        floor.pollFirstPerson(DirectionOfTravel.UP);
+        peopleSpawn.spawnPeople();
+
+        assertEquals(2, floor.getNumberOfPeople(DirectionOfTravel.UP));
+        assertTrue(floor.getUpQueue().stream().anyMatch(i -> i.getNeededFloor() == 5));
+    }
+
+    @Test
+    void keepSpawnTimeOfBlockedPerson() {
+        AtomicLong nowMillis = new AtomicLong(1000);
+        building.setClock(new SimulationClock() {
+
+            @Override
+            public long currentTimeMillis() {
+                return nowMillis.get();
+            }
+
+            @Override
+            public void sleep(TimeUnit unit, long duration) {
+                nowMillis.addAndGet(unit.toMillis(duration));
+            }
+        });
+        Floor floor = building.getFloorWithIndex(0);
+        PeopleSpawn peopleSpawn = floor.getPeopleSpawn();
+        building.setQueueCapacity(1).setOverflowPolicy(OverflowPolicy.BLOCK);
+
+        assertTrue(peopleSpawn.addPerson(3));
+        assertFalse(peopleSpawn.addPerson(5));
+        nowMillis.set(5000);
+        floor.pollFirstPerson(DirectionOfTravel.UP);
+        peopleSpawn.spawnPeople();
+
+        Person blockedPerson = floor.getFirstPerson(DirectionOfTravel.UP);
+        assertEquals(5, blockedPerson.getNeededFloor());
+        assertEquals(1000, blockedPerson.getSpawnTimeMillis());
+    }
+
     @Test
     void unpause() {
         building.getFloorWithIndex(0).getPeopleSpawn().unpause();
@@ -2,83 +2,153 @@ package pinchuk.dmitriy.issoft.util;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import pinchuk.dmitriy.issoft.domain.buildings.Building;
 import pinchuk.dmitriy.issoft.domain.util.Storage;
 
+import java.util.stream.IntStream;
+
 import static junit.framework.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class StorageTest {
 
+    private Storage storage;
+
     @BeforeEach
     void init() {
-        Storage.getInstance().restart();
+        storage = new Storage(8, 8);
     }
 
     @Test
     void restart() {
-        Storage storage = Storage.getInstance();
-
-        storage.incrementNumberOfDeliveredPeople();
-        storage.incrementNumberOfGeneratedPeople();
-        storage.incrementNumberOfPassedFloors();
+        storage.incrementNumberOfDeliveredPeople(0, 3);
+        storage.incrementNumberOfGeneratedPeople(1);
+        storage.incrementNumberOfPassedFloors(0);
 
         storage.restart();
 
         assertTrue(storage.getNumberOfDeliveredPeople() == 0);
         assertTrue(storage.getNumberOfGeneratedPeople() == 0);
         assertTrue(storage.getNumberOfPassedFloors() == 0);
+        assertTrue(storage.getNumberOfDeliveredPeopleByElevator(0) == 0);
+        assertTrue(storage.getNumberOfGeneratedPeopleOnFloor(1) == 0);
     }
 
     @Test
-    void incrementNumberOfDeliveredPeople() {
-        Storage storage = Storage.getInstance();
+    void incrementNumberOfBalkedPeopleAndPeopleOnStairs() {
+        storage.incrementNumberOfBalkedPeople(2);
+        storage.incrementNumberOfBalkedPeople(2);
+        storage.incrementNumberOfPeopleOnStairs(4);
+
+        assertTrue(storage.getNumberOfBalkedPeople() == 2);
+        assertTrue(storage.getNumberOfBalkedPeopleOnFloor(2) == 2);
+        assertTrue(storage.getNumberOfPeopleOnStairs() == 1);
+        assertTrue(storage.getNumberOfPeopleOnStairsFromFloor(4) == 1);
+    }
 
-        storage.incrementNumberOfDeliveredPeople();
-        storage.incrementNumberOfDeliveredPeople();
-        storage.incrementNumberOfDeliveredPeople();
+    @Test
+    void addOtherStorage() {
+        Storage other = new Storage(2, 4);
+        storage.incrementNumberOfDeliveredPeople(0, 3);
+        other.incrementNumberOfDeliveredPeople(0, 3);
+        other.incrementNumberOfBalkedPeople(1);
+
+        storage.add(other);
+
+        assertTrue(storage.getNumberOfDeliveredPeople() == 2);
+        assertTrue(storage.getNumberOfDeliveredPeopleByElevator(0) == 2);
+        assertTrue(storage.getNumberOfDeliveredPeopleToFloor(3) == 2);
+        assertTrue(storage.getNumberOfBalkedPeopleOnFloor(1) == 1);
+        assertTrue(other.getNumberOfDeliveredPeople() == 1);
+    }
+
+    @Test
+    void addStorageOfLargerBuilding() {
+        assertThrows(IllegalArgumentException.class, () -> storage.add(new Storage(9, 8)));
+    }
+
+    @Test
+    void countOutsideOfBuilding() {
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> storage.incrementNumberOfPassedFloors(8));
+    }
+
+    @Test
+    void incrementNumberOfDeliveredPeople() {
+        storage.incrementNumberOfDeliveredPeople(0, 3);
+        storage.incrementNumberOfDeliveredPeople(0, 5);
+        storage.incrementNumberOfDeliveredPeople(1, 3);
 
         assertTrue(storage.getNumberOfDeliveredPeople() == 3);
+        assertTrue(storage.getNumberOfDeliveredPeopleByElevator(0) == 2);
+        assertTrue(storage.getNumberOfDeliveredPeopleByElevator(1) == 1);
+        assertTrue(storage.getNumberOfDeliveredPeopleToFloor(3) == 2);
+        assertTrue(storage.getNumberOfDeliveredPeopleToFloor(5) == 1);
     }
 
     @Test
     void incrementNumberOfGeneratedPeople() {
-        Storage storage = Storage.getInstance();
-
-        storage.incrementNumberOfGeneratedPeople();
-        storage.incrementNumberOfGeneratedPeople();
-        storage.incrementNumberOfGeneratedPeople();
+        storage.incrementNumberOfGeneratedPeople(2);
+        storage.incrementNumberOfGeneratedPeople(2);
+        storage.incrementNumberOfGeneratedPeople(4);
 
         assertTrue(storage.getNumberOfGeneratedPeople() == 3);
+        assertTrue(storage.getNumberOfGeneratedPeopleOnFloor(2) == 2);
+        assertTrue(storage.getNumberOfGeneratedPeopleOnFloor(4) == 1);
     }
 
     @Test
     void incrementNumberOfPassedFloors() {
-        Storage storage = Storage.getInstance();
-
-        storage.incrementNumberOfPassedFloors();
-        storage.incrementNumberOfPassedFloors();
-        storage.incrementNumberOfPassedFloors();
+        storage.incrementNumberOfPassedFloors(0);
+        storage.incrementNumberOfPassedFloors(1);
+        storage.incrementNumberOfPassedFloors(1);
 
         assertTrue(storage.getNumberOfPassedFloors() == 3);
+        assertTrue(storage.getNumberOfPassedFloorsByElevator(1) == 2);
     }
 
     @Test
     void getNumberOfDeliveredPeople() {
-        Storage storage = Storage.getInstance();
-
         assertTrue(storage.getNumberOfDeliveredPeople() == 0);
+        assertTrue(storage.getNumberOfDeliveredPeopleByElevator(7) == 0);
     }
 
     @Test
     void getNumberOfGeneratedPeople() {
-        Storage storage = Storage.getInstance();
-
         assertTrue(storage.getNumberOfGeneratedPeople() == 0);
+        assertTrue(storage.getNumberOfGeneratedPeopleOnFloor(7) == 0);
     }
 
     @Test
     void getNumberOfPassedFloors() {
-        Storage storage = Storage.getInstance();
-
         assertTrue(storage.getNumberOfPassedFloors() == 0);
+        assertTrue(storage.getNumberOfPassedFloorsByElevator(7) == 0);
+    }
+
+    @Test
+    void buildingsKeepSeparateStatistics() {
+        Building firstBuilding = Building.of(1, 5, 1, "address");
+        Building secondBuilding = Building.of(2, 5, 1, "address");
+
+        firstBuilding.getElevators().get(0).goUp();
+
+        assertTrue(firstBuilding.getStorage().getNumberOfPassedFloors() == 1);
+        assertTrue(secondBuilding.getStorage().getNumberOfPassedFloors() == 0);
+    }
+
+    @Test
+    void incrementConcurrently() throws InterruptedException {
+        Thread[] writers = new Thread[4];
+
+        for (int i = 0; i < writers.length; i++) {
+            int elevatorNumber = i;
+            writers[i] = new Thread(() -> IntStream.range(0, 10_000).forEach(j -> storage.incrementNumberOfPassedFloors(elevatorNumber)));
+            writers[i].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        assertTrue(storage.getNumberOfPassedFloors() == 40_000);
+        assertTrue(storage.getNumberOfPassedFloorsByElevator(3) == 10_000);
     }
 }